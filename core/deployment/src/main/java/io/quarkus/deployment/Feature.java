@@ -99,6 +99,7 @@ public enum Feature {
     RESTEASY_REACTIVE_JACKSON,
     RESTEASY_REACTIVE_KOTLIN_SERIALIZATION,
     RESTEASY_REACTIVE_LINKS,
+    RESTEASY_REACTIVE_CACHE,
     REST_CLIENT,
     REST_CLIENT_JACKSON,
     REST_CLIENT_JAXB,
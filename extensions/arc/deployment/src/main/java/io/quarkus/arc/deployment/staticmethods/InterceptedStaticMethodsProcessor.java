@@ -322,16 +322,16 @@ private String implementInit(IndexView index, ClassCreator initializer,
             }
         }
 
+        // Create forwarding function
+        ResultHandle forwardingFunc = createForwardingFunction(init, interceptedStaticMethod.getTarget(), method);
+
         // Now create metadata for the given intercepted method
         ResultHandle metadataHandle = init.newInstance(MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                chainHandle, methodHandle, bindingsHandle);
+                chainHandle, methodHandle, bindingsHandle, forwardingFunc);
 
         // Needed when running on native image
         reflectiveMethods.produce(new ReflectiveMethodBuildItem(method));
 
-        // Create forwarding function
-        ResultHandle forwardingFunc = createForwardingFunction(init, interceptedStaticMethod.getTarget(), method);
-
         ResultHandle staticMethodHandle = init.newInstance(
                 MethodDescriptor.ofConstructor(InterceptedStaticMethod.class, Function.class, InterceptedMethodMetadata.class),
                 forwardingFunc, metadataHandle);
@@ -10,6 +10,7 @@
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot
 public class CacheConfig {
@@ -31,6 +32,16 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Off-heap configuration.
+     */
+    OffHeapConfig offHeap;
+
+    /**
+     * Redis configuration.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -60,6 +71,23 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain. By default, the weight of an entry is an estimate of its
+             * heap usage in bytes, so this value bounds the memory used by the cache. Like {@code maximum-size}, the cache
+             * <b>may evict an entry before this limit is exceeded or temporarily exceed the threshold while evicting</b>. This
+             * property cannot be combined with {@code maximum-size}.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * The fully qualified name of a class implementing {@link io.quarkus.cache.CacheWeigher}, used to weigh the entries
+             * of the cache when {@code maximum-weight} is set. If not set, the heap usage of each entry is estimated from its
+             * key and value, which is only accurate for strings, arrays, boxed primitives, collections and maps.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -74,6 +102,23 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be computed again in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The refresh is only triggered when the entry is
+             * read, and the current value is returned until the new one is computed. Only one refresh runs at a time for a
+             * given entry. This duration should be shorter than {@code expire-after-write}.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Specifies how long an entry can still be returned once {@code expire-after-write} has elapsed, while it is
+             * computed again in the background. This property requires {@code expire-after-write} and cannot be combined
+             * with {@code refresh-after-write}.
+             */
+            @ConfigItem
+            Optional<Duration> staleWhileRevalidate;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -81,4 +126,122 @@ public static class CaffeineNamespaceConfig {
             boolean metricsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class OffHeapConfig {
+
+        /**
+         * Namespace configuration. A cache configured in this namespace stores its values off-heap instead of in Caffeine.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, OffHeapNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class OffHeapNamespaceConfig {
+
+            /**
+             * Whether or not the values of the cache are stored off-heap.
+             */
+            @ConfigItem(defaultValue = "true")
+            boolean enabled;
+
+            /**
+             * The amount of direct memory allocated for the values of the cache, when the cache is created. When the memory is
+             * full, the oldest entries are evicted first. The direct memory available to the application is limited by the
+             * {@code -XX:MaxDirectMemorySize} JVM option.
+             */
+            @ConfigItem(defaultValue = "64M")
+            MemorySize capacity;
+
+            /**
+             * The number of segments the memory is split into. Each segment is written under its own lock, so more segments
+             * allow more concurrent writes. A segment cannot be larger than 2GB, and a value larger than a segment is not
+             * cached.
+             */
+            @ConfigItem(defaultValue = "16")
+            int segments;
+
+            /**
+             * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * The fully qualified name of a class implementing {@link io.quarkus.cache.CacheValueCodec}, used to convert the
+             * values of the cache to bytes. If not set, the values are serialized with the Java serialization and must be
+             * {@link java.io.Serializable}.
+             */
+            @ConfigItem
+            Optional<String> codec;
+        }
+    }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * Namespace configuration. A cache configured in this namespace stores its values in Redis, with a local copy in
+         * Caffeine. It requires the Redis client extension and uses its default Redis client.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * Whether or not the values of the cache are stored in Redis.
+             */
+            @ConfigItem(defaultValue = "true")
+            boolean enabled;
+
+            /**
+             * The prefix of the Redis keys of the cache, followed by the string representation of each cache key. Defaults to
+             * {@code cache:<cache-name>:}. The caches which share a Redis server must have distinct prefixes.
+             */
+            @ConfigItem
+            Optional<String> keyPrefix;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * Maximum number of entries the local cache of each application instance may contain.
+             */
+            @ConfigItem
+            OptionalLong localMaximumSize;
+
+            /**
+             * Specifies that each entry should be automatically removed from the local cache once a fixed duration has elapsed
+             * after the entry's creation, or the most recent replacement of its value. It bounds how long an instance can
+             * return a value which was replaced in Redis without being invalidated, for example because an invalidation
+             * message was lost. Defaults to {@code expire-after-write}.
+             */
+            @ConfigItem
+            Optional<Duration> localExpireAfterWrite;
+
+            /**
+             * The fully qualified name of a class implementing {@link io.quarkus.cache.CacheValueCodec}, used to convert the
+             * values of the cache to bytes. It is required, the values read from Redis are not deserialized with the Java
+             * serialization.
+             */
+            @ConfigItem
+            Optional<String> codec;
+
+            /**
+             * The Redis channel where the invalidations of the cache are published, so that every application instance removes
+             * the invalidated entries from its local cache. Defaults to the key prefix followed by {@code invalidations}.
+             */
+            @ConfigItem
+            Optional<String> invalidationChannel;
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.jandex.DotName;
 
@@ -38,11 +41,17 @@ public class CacheDeploymentConstants {
     public static final DotName REGISTER_REST_CLIENT = DotName
             .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
 
+    // Bulk @CacheResult.
+    public static final DotName MAP = dotName(Map.class);
+    public static final List<DotName> BULK_KEYS_TYPES = Arrays.asList(dotName(Collection.class), dotName(Set.class),
+            dotName(List.class));
+
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
+    public static final String CACHE_RESULT_BULK_PARAM = "bulk";
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,9 +9,11 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
@@ -39,6 +42,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
@@ -46,7 +50,12 @@
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
+import io.quarkus.cache.deployment.CacheConfig.OffHeapConfig.OffHeapNamespaceConfig;
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -54,13 +63,16 @@
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheManagerRecorder;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
-import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheInfo;
+import io.quarkus.cache.runtime.redis.RedisCacheDataSource;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -68,6 +80,7 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 
 class CacheProcessor {
@@ -190,6 +203,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue bulk = binding.value(CACHE_RESULT_BULK_PARAM);
+                    if (bulk != null && bulk.asBoolean()) {
+                        validateBulkCacheResultTarget(binding, methodInfo).ifPresent(throwables::add);
+                    }
                 }
                 break;
             default:
@@ -199,6 +216,38 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validateBulkCacheResultTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        if (!MAP.equals(methodInfo.returnType().name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo, "the method must return " + MAP));
+        }
+        if (binding.value("keyGenerator") != null) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo, "a key generator cannot be used"));
+        }
+        // The collection of keys is either the only parameter or the one annotated with @CacheKey
+        int keysPosition = -1;
+        for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+            if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                if (keysPosition != -1) {
+                    return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                            "only one parameter can be annotated with @CacheKey"));
+                }
+                keysPosition = cacheKey.target().asMethodParameter().position();
+            }
+        }
+        if (keysPosition == -1) {
+            if (methodInfo.parametersCount() != 1) {
+                return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                        "the collection of keys must be the only parameter or be annotated with @CacheKey"));
+            }
+            keysPosition = 0;
+        }
+        if (!BULK_KEYS_TYPES.contains(methodInfo.parameterType(keysPosition).name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "the collection of keys must be declared as one of " + BULK_KEYS_TYPES));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -229,19 +278,58 @@ private List<Throwable> validateKeyGeneratorsDefaultConstructor(CombinedIndexBui
         return throwables;
     }
 
+    @BuildStep
+    void registerWeighersAndCodecsForReflection(CacheConfig config,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // The weighers and the codecs are instantiated when the caches are created
+        for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+            namespaceConfig.weigher
+                    .ifPresent(weigher -> reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, weigher)));
+        }
+        for (OffHeapNamespaceConfig namespaceConfig : config.offHeap.namespace.values()) {
+            namespaceConfig.codec
+                    .ifPresent(codec -> reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, codec)));
+        }
+        for (RedisNamespaceConfig namespaceConfig : config.redis.namespace.values()) {
+            namespaceConfig.codec
+                    .ifPresent(codec -> reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, codec)));
+        }
+    }
+
+    @BuildStep
+    void registerRedisCacheDataSource(CacheConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // The bean requires the Redis client, its absence is reported when the caches are configured
+        if (config.redis.namespace.values().stream().anyMatch(namespaceConfig -> namespaceConfig.enabled)
+                && QuarkusClassLoader.isClassPresentAtRuntime(RedisCacheInfoBuilder.REDIS_DATA_SOURCE)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisCacheDataSource.class));
+        }
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
+            CacheManagerRecorder cacheRecorder, NoOpCacheBuildRecorder noOpRecorder,
             Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
             switch (config.type) {
                 case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
-                    Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    // The caches configured off-heap or in Redis are not Caffeine caches
+                    Set<OffHeapCacheInfo> offHeapCacheInfos = OffHeapCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    Set<RedisCacheInfo> redisCacheInfos = RedisCacheInfoBuilder.build(cacheNames.getNames(), config,
+                            offHeapCacheInfos);
+                    Set<String> caffeineCacheNames = new HashSet<>(cacheNames.getNames());
+                    for (OffHeapCacheInfo offHeapCacheInfo : offHeapCacheInfos) {
+                        caffeineCacheNames.remove(offHeapCacheInfo.name);
+                    }
+                    for (RedisCacheInfo redisCacheInfo : redisCacheInfos) {
+                        caffeineCacheNames.remove(redisCacheInfo.name);
+                    }
+                    Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(caffeineCacheNames, config);
                     MetricsInitializer metricsInitializer = getMetricsInitializer(metricsCapability);
-                    cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos, metricsInitializer);
+                    cacheManagerSupplier = cacheRecorder.getCacheManagerSupplier(cacheInfos, offHeapCacheInfos,
+                            redisCacheInfos, metricsInitializer);
                     break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
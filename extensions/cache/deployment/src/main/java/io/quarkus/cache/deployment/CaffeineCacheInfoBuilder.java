@@ -4,6 +4,8 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.DeploymentException;
+
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 
@@ -20,12 +22,42 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                 if (namespaceConfig != null) {
                     namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                     namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                    namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                    namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigher = weigher);
                     namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                     namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                    namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                    namespaceConfig.staleWhileRevalidate.ifPresent(delay -> cacheInfo.staleWhileRevalidate = delay);
+                    validate(cacheInfo);
                     cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
                 }
                 return cacheInfo;
             }).collect(Collectors.toSet());
         }
     }
+
+    private static void validate(CaffeineCacheInfo cacheInfo) {
+        // Caffeine would only fail when the cache is created, at runtime
+        if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+            throw new DeploymentException("Both maximum-size and maximum-weight are configured for cache [" + cacheInfo.name
+                    + "], only one of them can be used");
+        }
+        if (cacheInfo.weigher != null && cacheInfo.maximumWeight == null) {
+            throw new DeploymentException(
+                    "A weigher is configured for cache [" + cacheInfo.name + "] but maximum-weight is not configured");
+        }
+        if (cacheInfo.refreshAfterWrite != null && cacheInfo.staleWhileRevalidate != null) {
+            throw new DeploymentException("Both refresh-after-write and stale-while-revalidate are configured for cache ["
+                    + cacheInfo.name + "], only one of them can be used");
+        }
+        if (cacheInfo.staleWhileRevalidate != null && cacheInfo.expireAfterWrite == null) {
+            throw new DeploymentException("stale-while-revalidate is configured for cache [" + cacheInfo.name
+                    + "] but expire-after-write is not configured");
+        }
+        if (cacheInfo.refreshAfterWrite != null && cacheInfo.expireAfterWrite != null
+                && cacheInfo.refreshAfterWrite.compareTo(cacheInfo.expireAfterWrite) >= 0) {
+            throw new DeploymentException("refresh-after-write must be shorter than expire-after-write for cache ["
+                    + cacheInfo.name + "], the entries would expire before they are refreshed");
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package io.quarkus.cache.deployment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import io.quarkus.cache.deployment.CacheConfig.OffHeapConfig.OffHeapNamespaceConfig;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheInfo;
+
+public class OffHeapCacheInfoBuilder {
+
+    public static Set<OffHeapCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        Set<OffHeapCacheInfo> cacheInfos = new HashSet<>();
+        for (Map.Entry<String, OffHeapNamespaceConfig> entry : cacheConfig.offHeap.namespace.entrySet()) {
+            OffHeapNamespaceConfig namespaceConfig = entry.getValue();
+            if (!namespaceConfig.enabled || !cacheNames.contains(entry.getKey())) {
+                continue;
+            }
+            OffHeapCacheInfo cacheInfo = new OffHeapCacheInfo();
+            cacheInfo.name = entry.getKey();
+            cacheInfo.capacity = namespaceConfig.capacity.asLongValue();
+            cacheInfo.segments = namespaceConfig.segments;
+            namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+            namespaceConfig.codec.ifPresent(codec -> cacheInfo.codec = codec);
+            validate(cacheInfo);
+            cacheInfos.add(cacheInfo);
+        }
+        return cacheInfos;
+    }
+
+    private static void validate(OffHeapCacheInfo cacheInfo) {
+        if (cacheInfo.segments <= 0) {
+            throw new DeploymentException("The number of segments of off-heap cache [" + cacheInfo.name + "] must be positive");
+        }
+        long segmentCapacity = cacheInfo.capacity / cacheInfo.segments;
+        if (segmentCapacity <= 0 || segmentCapacity > Integer.MAX_VALUE) {
+            throw new DeploymentException("The capacity of a segment of off-heap cache [" + cacheInfo.name
+                    + "] must be between 1 byte and 2GB, configure more segments or a smaller capacity");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.cache.deployment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheInfo;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+
+public class RedisCacheInfoBuilder {
+
+    static final String REDIS_DATA_SOURCE = "io.quarkus.redis.datasource.ReactiveRedisDataSource";
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig,
+            Set<OffHeapCacheInfo> offHeapCacheInfos) {
+        Set<RedisCacheInfo> cacheInfos = new HashSet<>();
+        for (Map.Entry<String, RedisNamespaceConfig> entry : cacheConfig.redis.namespace.entrySet()) {
+            RedisNamespaceConfig namespaceConfig = entry.getValue();
+            if (!namespaceConfig.enabled || !cacheNames.contains(entry.getKey())) {
+                continue;
+            }
+            RedisCacheInfo cacheInfo = new RedisCacheInfo();
+            cacheInfo.name = entry.getKey();
+            cacheInfo.keyPrefix = namespaceConfig.keyPrefix.orElse("cache:" + cacheInfo.name + ":");
+            cacheInfo.invalidationChannel = namespaceConfig.invalidationChannel.orElse(cacheInfo.keyPrefix + "invalidations");
+            namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+            namespaceConfig.localMaximumSize.ifPresent(localMaximumSize -> cacheInfo.localMaximumSize = localMaximumSize);
+            cacheInfo.localExpireAfterWrite = namespaceConfig.localExpireAfterWrite.orElse(cacheInfo.expireAfterWrite);
+            cacheInfo.codec = namespaceConfig.codec.orElse(null);
+            validate(cacheInfo, offHeapCacheInfos);
+            cacheInfos.add(cacheInfo);
+        }
+        return cacheInfos;
+    }
+
+    private static void validate(RedisCacheInfo cacheInfo, Set<OffHeapCacheInfo> offHeapCacheInfos) {
+        for (OffHeapCacheInfo offHeapCacheInfo : offHeapCacheInfos) {
+            if (offHeapCacheInfo.name.equals(cacheInfo.name)) {
+                throw new DeploymentException(
+                        "Cache [" + cacheInfo.name + "] cannot be stored both off-heap and in Redis");
+            }
+        }
+        if (cacheInfo.codec == null) {
+            throw new DeploymentException("Cache [" + cacheInfo.name + "] is stored in Redis, quarkus.cache.redis.\""
+                    + cacheInfo.name + "\".codec must be set");
+        }
+        if (!QuarkusClassLoader.isClassPresentAtRuntime(REDIS_DATA_SOURCE)) {
+            throw new DeploymentException("Cache [" + cacheInfo.name
+                    + "] is stored in Redis, the quarkus-redis-client extension must be added to the application");
+        }
+    }
+}
@@ -2,7 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
-import io.quarkus.cache.runtime.CaffeineCacheSupplier;
+import io.quarkus.cache.runtime.CacheSupplier;
 import io.quarkus.cache.runtime.devconsole.CacheDevConsoleRecorder;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -15,7 +15,7 @@ public class CacheDevConsoleProcessor {
 
     @BuildStep(onlyIf = IsDevelopment.class)
     public DevConsoleRuntimeTemplateInfoBuildItem collectBeanInfo(CurateOutcomeBuildItem curateOutcomeBuildItem) {
-        return new DevConsoleRuntimeTemplateInfoBuildItem("cacheInfos", new CaffeineCacheSupplier(), this.getClass(),
+        return new DevConsoleRuntimeTemplateInfoBuildItem("cacheInfos", new CacheSupplier(), this.getClass(),
                 curateOutcomeBuildItem);
     }
 
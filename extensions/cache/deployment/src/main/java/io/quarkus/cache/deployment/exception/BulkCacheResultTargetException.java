@@ -0,0 +1,23 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResult @CacheResult(bulk = true)} does not have a supported signature.
+ */
+@SuppressWarnings("serial")
+public class BulkCacheResultTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkCacheResultTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheResult(bulk = true) is not allowed on this method, " + reason + " [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -5,6 +5,11 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -22,6 +27,7 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -42,7 +48,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(11, t.getSuppressed().length);
+                assertEquals(13, t.getSuppressed().length);
                 assertPrivateMethodTargetException(t, "shouldThrowPrivateMethodTargetException", 1);
                 assertPrivateMethodTargetException(t, "shouldAlsoThrowPrivateMethodTargetException", 2);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
@@ -52,6 +58,8 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertBulkCacheResultTargetException(t, "shouldThrowBulkCacheResultTargetException");
+                assertBulkCacheResultTargetException(t, "shouldAlsoThrowBulkCacheResultTargetException");
             });
 
     private static void assertPrivateMethodTargetException(Throwable t, String expectedMethodName, long expectedCount) {
@@ -74,6 +82,11 @@ private static void assertKeyGeneratorConstructorException(Throwable t, Class<?>
                 .filter(s -> expectedClassName.getName().equals(s.getClassInfo().name().toString())).count());
     }
 
+    private static void assertBulkCacheResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkCacheResultTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static <T extends RuntimeException> Stream<T> filterSuppressed(Throwable t, Class<T> filterClass) {
         return stream(t.getSuppressed()).filter(filterClass::isInstance).map(filterClass::cast);
     }
@@ -135,6 +148,16 @@ public void shouldAlsoThrowKeyGeneratorConstructorException() {
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
         }
+
+        @CacheResult(cacheName = "should-throw-bulk-cache-result-target-exception", bulk = true)
+        public List<String> shouldThrowBulkCacheResultTargetException(Set<String> keys) {
+            return new ArrayList<>();
+        }
+
+        @CacheResult(cacheName = "should-throw-bulk-cache-result-target-exception", bulk = true)
+        public Map<String, String> shouldAlsoThrowBulkCacheResultTargetException(String key) {
+            return new HashMap<>();
+        }
     }
 
     private static class KeyGen1 implements CacheKeyGenerator {
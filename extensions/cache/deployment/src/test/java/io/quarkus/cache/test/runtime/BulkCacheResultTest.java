@@ -0,0 +1,126 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkCacheResultTest {
+
+    private static final String BULK_CACHE = "bulk-cache";
+    private static final String PROGRAMMATIC_CACHE = "programmatic-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(PROGRAMMATIC_CACHE)
+    Cache programmaticCache;
+
+    @Test
+    public void testOnlyMissingKeysAreLoaded() {
+        Map<String, String> values = cachedService.load(new LinkedHashSet<>(Arrays.asList("a", "b")));
+        assertEquals(Map.of("a", "A", "b", "B"), values);
+        assertEquals(List.of(Set.of("a", "b")), cachedService.getInvocations());
+
+        values = cachedService.load(new LinkedHashSet<>(Arrays.asList("b", "c", "d")));
+        assertEquals(List.of("b", "c", "d"), new ArrayList<>(values.keySet()));
+        assertEquals("C", values.get("c"));
+        // "d" is missing from the loaded values, a null value is cached
+        assertNull(values.get("d"));
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c", "d")), cachedService.getInvocations());
+
+        values = cachedService.load(new LinkedHashSet<>(Arrays.asList("a", "d")));
+        assertEquals(2, values.size());
+        assertEquals(2, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testCacheKeyParameter() {
+        Map<String, String> values = cachedService.loadWithPrefix("x-", List.of("e", "f"));
+        assertEquals(Map.of("e", "x-E", "f", "x-F"), values);
+        values = cachedService.loadWithPrefix("y-", List.of("e"));
+        // the prefix is not part of the cache key
+        assertEquals(Map.of("e", "x-E"), values);
+    }
+
+    @Test
+    public void testProgrammaticGetAll() {
+        List<Set<Integer>> invocations = new ArrayList<>();
+        Map<Integer, Integer> values = programmaticCache.<Integer, Integer> getAll(List.of(1, 2), keys -> {
+            invocations.add(keys);
+            Map<Integer, Integer> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, key * 10);
+            }
+            return result;
+        }).await().indefinitely();
+        assertEquals(Map.of(1, 10, 2, 20), values);
+
+        values = programmaticCache.<Integer, Integer> getAll(List.of(2, 3), keys -> {
+            invocations.add(keys);
+            return Map.of(3, 30);
+        }).await().indefinitely();
+        assertEquals(Map.of(2, 20, 3, 30), values);
+        assertEquals(List.of(Set.of(1, 2), Set.of(3)), invocations);
+
+        // a failed load is not cached
+        assertThrows(IllegalStateException.class, () -> programmaticCache.<Integer, Integer> getAll(List.of(4), keys -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+        values = programmaticCache.<Integer, Integer> getAll(List.of(4), keys -> Map.of(4, 40)).await().indefinitely();
+        assertEquals(Map.of(4, 40), values);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Set<String>> invocations = new ArrayList<>();
+
+        @CacheResult(cacheName = BULK_CACHE, bulk = true)
+        public Map<String, String> load(Set<String> keys) {
+            invocations.add(new LinkedHashSet<>(keys));
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("d")) {
+                    values.put(key, key.toUpperCase());
+                }
+            }
+            return values;
+        }
+
+        @CacheResult(cacheName = "prefix-cache", bulk = true)
+        public Map<String, String> loadWithPrefix(String prefix, @CacheKey List<String> keys) {
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, prefix + key.toUpperCase());
+            }
+            return values;
+        }
+
+        public List<Set<String>> getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaximumWeightTest {
+
+    private static final String WEIGHED_CACHE = "weighed-cache";
+    private static final String ESTIMATED_CACHE = "estimated-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar
+            .addClass(LengthWeigher.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.caffeine.\"" + WEIGHED_CACHE + "\".maximum-weight=1000\n"
+                            + "quarkus.cache.caffeine.\"" + WEIGHED_CACHE + "\".weigher=" + LengthWeigher.class.getName() + "\n"
+                            + "quarkus.cache.caffeine.\"" + ESTIMATED_CACHE + "\".maximum-weight=1000000\n"),
+                    "application.properties"));
+
+    @CacheName(WEIGHED_CACHE)
+    Cache weighedCache;
+
+    @CacheName(ESTIMATED_CACHE)
+    Cache estimatedCache;
+
+    @Test
+    public void testEvictionByWeight() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) weighedCache;
+        assertEquals(1000L, cache.getCacheInfo().maximumWeight);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, CompletableFuture.completedFuture("x".repeat(400)));
+        }
+        // the eviction is asynchronous
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.getSize() <= 2);
+        assertTrue(cache.getWeightedSize() <= 1000L);
+    }
+
+    @Test
+    public void testDefaultWeigher() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) estimatedCache;
+        cache.put("small", CompletableFuture.completedFuture("foo"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.getWeightedSize() > 0);
+        long smallWeight = cache.getWeightedSize();
+
+        cache.put("large", CompletableFuture.completedFuture(new byte[10_000]));
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.getWeightedSize() > smallWeight);
+        // the estimate accounts for the content of the array
+        assertTrue(cache.getWeightedSize() - smallWeight >= 10_000);
+    }
+
+    public static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return ((String) value).length();
+        }
+    }
+}
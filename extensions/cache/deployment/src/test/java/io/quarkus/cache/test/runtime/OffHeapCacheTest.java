@@ -0,0 +1,144 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OffHeapCacheTest {
+
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+    private static final String SMALL_CACHE = "small-cache";
+    private static final String ON_HEAP_CACHE = "on-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar
+            .addClass(CachedService.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.off-heap.\"" + OFF_HEAP_CACHE + "\".capacity=1M\n"
+                            + "quarkus.cache.off-heap.\"" + SMALL_CACHE + "\".capacity=1000\n"
+                            + "quarkus.cache.off-heap.\"" + SMALL_CACHE + "\".segments=1\n"
+                            + "quarkus.cache.off-heap.\"" + ON_HEAP_CACHE + "\".enabled=false\n"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(OFF_HEAP_CACHE)
+    Cache offHeapCache;
+
+    @CacheName(SMALL_CACHE)
+    Cache smallCache;
+
+    @CacheName(ON_HEAP_CACHE)
+    Cache onHeapCache;
+
+    @Test
+    public void testCacheImplementation() {
+        assertTrue(offHeapCache instanceof OffHeapCacheImpl);
+        assertEquals(1024 * 1024, ((OffHeapCacheImpl) offHeapCache).getCacheInfo().capacity);
+        assertTrue(smallCache instanceof OffHeapCacheImpl);
+        assertTrue(onHeapCache instanceof CaffeineCacheImpl);
+    }
+
+    @Test
+    public void testCachedValues() {
+        List<String> value1 = cachedService.load("foo");
+        List<String> value2 = cachedService.load("foo");
+        // the value is decoded on each read
+        assertEquals(value1, value2);
+        assertNotSame(value1, value2);
+        assertEquals(1, cachedService.getInvocations());
+
+        assertNull(cachedService.loadNull("bar"));
+        assertNull(cachedService.loadNull("bar"));
+        assertEquals(2, cachedService.getInvocations());
+
+        cachedService.invalidate("foo");
+        cachedService.load("foo");
+        assertEquals(3, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testEviction() {
+        OffHeapCacheImpl cache = (OffHeapCacheImpl) smallCache;
+        for (int i = 0; i < 10; i++) {
+            cache.get(i, k -> "x".repeat(200)).await().indefinitely();
+        }
+        // a serialized value takes more than 200 bytes, so at most 4 of them fit in 1000 bytes
+        assertTrue(cache.getSize() <= 4);
+        // the oldest entries are evicted first
+        String value = cache.get(9, k -> "y").await().indefinitely();
+        assertEquals("x".repeat(200), value);
+        value = cache.get(0, k -> "y").await().indefinitely();
+        assertEquals("y", value);
+    }
+
+    @Test
+    public void testGetAll() {
+        Map<Integer, String> values = offHeapCache.<Integer, String> getAll(List.of(1, 2), keys -> {
+            Map<Integer, String> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, "value-" + key);
+            }
+            return result;
+        }).await().indefinitely();
+        assertEquals(Map.of(1, "value-1", 2, "value-2"), values);
+
+        values = offHeapCache.<Integer, String> getAll(List.of(2, 3), keys -> {
+            // only the missing key is loaded
+            assertEquals(Set.of(3), keys);
+            return Map.of(3, "value-3");
+        }).await().indefinitely();
+        assertEquals(Map.of(2, "value-2", 3, "value-3"), values);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public List<String> load(String key) {
+            invocations++;
+            List<String> value = new ArrayList<>();
+            value.add(key);
+            return value;
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public String loadNull(String key) {
+            invocations++;
+            return null;
+        }
+
+        @CacheInvalidate(cacheName = OFF_HEAP_CACHE)
+        public void invalidate(String key) {
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * A Redis cache keeps working with its local cache when Redis cannot be reached.
+ */
+public class RedisCacheUnavailableTest {
+
+    private static final String CACHE_NAME = "redis-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar
+            .addClasses(CachedService.class, StringCodec.class)
+            .addAsResource(new StringAsset(
+                    // nothing listens on this port
+                    "quarkus.redis.hosts=redis://localhost:1\n"
+                            + "quarkus.redis.devservices.enabled=false\n"
+                            + "quarkus.cache.redis.\"" + CACHE_NAME + "\".codec=" + StringCodec.class.getName() + "\n"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testInvalidate() {
+        String value = cachedService.load("foo");
+        assertEquals(value, cachedService.load("foo"));
+
+        // the failure of Redis is logged, the local entry is still removed
+        cachedService.invalidate("foo");
+        assertNotEquals(value, cachedService.load("foo"));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        String value = cachedService.load("bar");
+        assertEquals(value, cachedService.load("bar"));
+
+        cachedService.invalidateAll();
+        assertEquals(0, cache.as(RedisCacheImpl.class).getLocalCache().getSize());
+        assertNotEquals(value, cachedService.load("bar"));
+    }
+
+    @Test
+    public void testProgrammaticInvalidation() {
+        // the returned Uni does not fail
+        cache.invalidate("baz").await().indefinitely();
+        cache.invalidateAll().await().indefinitely();
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String load(String key) {
+            return key + "-" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+    }
+
+    public static class StringCodec implements CacheValueCodec {
+
+        @Override
+        public byte[] encode(Object value) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
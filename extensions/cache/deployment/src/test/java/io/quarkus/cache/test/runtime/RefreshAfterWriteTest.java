@@ -0,0 +1,100 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RefreshAfterWriteTest {
+
+    private static final String REFRESHED_CACHE = "refreshed-cache";
+    private static final String STALE_CACHE = "stale-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar
+            .addClass(CachedService.class)
+            .addAsResource(new StringAsset(
+                    "quarkus.cache.caffeine.\"" + REFRESHED_CACHE + "\".refresh-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write=0.2S\n"
+                            + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate=1H\n"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        assertEquals(1, cachedService.refreshed("foo"));
+        Thread.sleep(300L);
+        // the current value is returned while the refresh runs in the background
+        assertEquals(1, cachedService.refreshed("foo"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> cachedService.refreshed("foo") == 2);
+        assertEquals(2, cachedService.getRefreshedInvocations());
+        // the refresh runs on the worker pool, not on the common pool of Caffeine, with a request context
+        assertFalse(cachedService.isRefreshedOnCommonPool());
+        assertTrue(cachedService.isRefreshedWithRequestContext());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals(1, cachedService.stale("foo").await().indefinitely());
+        Thread.sleep(300L);
+        // the expired value is returned while the refresh runs in the background
+        assertEquals(1, cachedService.stale("foo").await().indefinitely());
+        await().atMost(Duration.ofSeconds(10)).until(() -> cachedService.stale("foo").await().indefinitely() == 2);
+        assertEquals(2, cachedService.getStaleInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger refreshedInvocations = new AtomicInteger();
+        private final AtomicInteger staleInvocations = new AtomicInteger();
+        private volatile boolean refreshedOnCommonPool;
+        private volatile boolean refreshedWithRequestContext;
+
+        @CacheResult(cacheName = REFRESHED_CACHE)
+        public int refreshed(String key) {
+            refreshedOnCommonPool = Thread.currentThread() instanceof ForkJoinWorkerThread;
+            refreshedWithRequestContext = Arc.container().requestContext().isActive();
+            return refreshedInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public Uni<Integer> stale(String key) {
+            return Uni.createFrom().item(staleInvocations::incrementAndGet);
+        }
+
+        public int getRefreshedInvocations() {
+            return refreshedInvocations.get();
+        }
+
+        public int getStaleInvocations() {
+            return staleInvocations.get();
+        }
+
+        public boolean isRefreshedOnCommonPool() {
+            return refreshedOnCommonPool;
+        }
+
+        public boolean isRefreshedWithRequestContext() {
+            return refreshedWithRequestContext;
+        }
+    }
+}
@@ -1,5 +1,13 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Uni;
@@ -40,6 +48,50 @@ public interface Cache {
      */
     <K, V> Uni<V> get(K key, Function<K, V> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code bulkLoader} with a single invocation. The keys that are missing from the map returned by
+     * {@code bulkLoader} are associated with a {@code null} value.
+     * <p>
+     * The default implementation looks up each key with {@link #get(Object, Function)}, so {@code bulkLoader} is invoked
+     * once per missing key. The caches provided by Quarkus invoke it once for all the missing keys.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a lazy asynchronous action that will emit a map of the cache values, in the iteration order of {@code keys}
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        List<K> uniqueKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (uniqueKeys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        List<Uni<V>> values = new ArrayList<>(uniqueKeys.size());
+        for (K key : uniqueKeys) {
+            values.add(get(key, new Function<K, V>() {
+                @Override
+                public V apply(K k) {
+                    Map<K, V> loadedValues = bulkLoader.apply(Collections.singleton(k));
+                    return loadedValues == null ? null : loadedValues.get(k);
+                }
+            }));
+        }
+        return Uni.combine().all().unis(values).combinedWith(new Function<List<?>, Map<K, V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Map<K, V> apply(List<?> loadedValues) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < uniqueKeys.size(); i++) {
+                    result.put(uniqueKeys.get(i), (V) loadedValues.get(i));
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
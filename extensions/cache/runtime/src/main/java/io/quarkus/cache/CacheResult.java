@@ -68,4 +68,17 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * Whether the cache key argument is a collection of cache keys. In that case, the method must return a {@link java.util.Map}
+     * of the values of these keys and the cache key argument must be declared as a {@link java.util.Collection}, a
+     * {@link java.util.Set} or a {@link java.util.List}. When the method is invoked, the values found in the cache are not
+     * computed again: the method is invoked once with the missing keys only, if any. The keys that are missing from the
+     * returned map are cached with a {@code null} value.
+     * <p>
+     * The cache key argument is the only argument of the method or the argument annotated with {@link CacheKey @CacheKey}.
+     * This mode does not support the {@code keyGenerator}, {@code lockTimeout} and asynchronous return types.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
@@ -0,0 +1,27 @@
+package io.quarkus.cache;
+
+/**
+ * Converts the values of an off-heap or Redis cache to bytes, and back. Off-heap caches are configured with
+ * {@code quarkus.cache.off-heap."cache-name".*} and Redis caches with {@code quarkus.cache.redis."cache-name".*}.
+ * <p>
+ * An implementation can be configured for a cache with {@code quarkus.cache.off-heap."cache-name".codec} or
+ * {@code quarkus.cache.redis."cache-name".codec}. It must be thread-safe and have a public no-args constructor. When no
+ * codec is configured for an off-heap cache, the values are serialized with the Java serialization. A Redis cache requires
+ * a codec, because its values are written by other processes.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * @param value the value to store in the cache, never {@code null}
+     * @return the bytes of the value
+     * @throws CacheException if the value cannot be encoded, in which case the value is not cached
+     */
+    byte[] encode(Object value);
+
+    /**
+     * @param bytes the bytes returned by {@link #encode(Object)}
+     * @return the value
+     * @throws CacheException if the value cannot be decoded, in which case the value is computed again
+     */
+    Object decode(byte[] bytes);
+}
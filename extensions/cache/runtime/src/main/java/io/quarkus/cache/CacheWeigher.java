@@ -0,0 +1,23 @@
+package io.quarkus.cache;
+
+/**
+ * Calculates the weight of a cache entry. The weight is used to bound a Caffeine cache configured with
+ * {@code quarkus.cache.caffeine."cache-name".maximum-weight}.
+ * <p>
+ * An implementation can be configured for a cache with {@code quarkus.cache.caffeine."cache-name".weigher}. It must be
+ * thread-safe and have a public no-args constructor. When no weigher is configured, the weight of an entry is an estimate of
+ * its heap usage in bytes.
+ */
+@FunctionalInterface
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. The weight is computed once, when the entry is stored in the cache, and is not
+     * updated if the value is mutated afterwards.
+     *
+     * @param key the key of the entry
+     * @param value the value of the entry, may be {@code null} if the cached method returned {@code null}
+     * @return the weight of the entry, must not be negative
+     */
+    int weigh(Object key, Object value);
+}
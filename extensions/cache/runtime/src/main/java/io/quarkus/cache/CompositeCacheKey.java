@@ -25,6 +25,13 @@ public CompositeCacheKey(Object... keyElements) {
         this.keyElements = keyElements;
     }
 
+    /**
+     * @return the key elements, which must not be modified
+     */
+    public Object[] getKeyElements() {
+        return keyElements;
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
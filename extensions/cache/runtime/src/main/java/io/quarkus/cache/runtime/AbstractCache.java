@@ -1,5 +1,11 @@
 package io.quarkus.cache.runtime;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
 import io.smallrye.mutiny.Uni;
@@ -28,10 +34,44 @@ public <T extends Cache> T as(Class<T> type) {
         }
     }
 
+    /**
+     * Returns the number of entries held by this cache, as displayed by the Dev UI.
+     *
+     * @return the number of entries, or {@code -1} if it is not known
+     */
+    public long getSize() {
+        return -1;
+    }
+
     /**
      * Replaces the cache value associated with the given key by an item emitted by a {@link Uni}. This method can be called
      * several times for the same key, each call will then always replace the existing cache entry with the given emitted
      * value. If the key no longer identifies a cache entry, this method must not put the emitted item into the cache.
      */
     public abstract Uni<Void> replaceUniValue(Object key, Object emittedValue);
+
+    /**
+     * Same as {@link #replaceUniValue(Object, Object)}, the given supplier creates a new {@link Uni} that emits the next value
+     * of the entry. A cache that refreshes its entries in the background uses it, the other caches ignore it.
+     */
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue, Supplier<Uni<?>> reloader) {
+        return replaceUniValue(key, emittedValue);
+    }
+
+    /**
+     * Combines the values of several keys, the returned future fails if one of the values failed.
+     */
+    protected static <K> CompletableFuture<Map<K, Object>> allOf(Map<K, CompletableFuture<Object>> values) {
+        return CompletableFuture.allOf(values.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(new Function<Void, Map<K, Object>>() {
+                    @Override
+                    public Map<K, Object> apply(Void ignored) {
+                        Map<K, Object> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> value : values.entrySet()) {
+                            result.put(value.getKey(), value.getValue().join());
+                        }
+                        return result;
+                    }
+                });
+    }
 }
@@ -0,0 +1,70 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuilder;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheInfo;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * Builds the Caffeine, off-heap and Redis caches of the application.
+ */
+@Recorder
+public class CacheManagerRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheManagerRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<CaffeineCacheInfo> cacheInfos,
+            Set<OffHeapCacheInfo> offHeapCacheInfos, Set<RedisCacheInfo> redisCacheInfos,
+            MetricsInitializer metricsInitializer) {
+        Objects.requireNonNull(cacheInfos);
+        Objects.requireNonNull(offHeapCacheInfos);
+        Objects.requireNonNull(redisCacheInfos);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty() && offHeapCacheInfos.isEmpty() && redisCacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(
+                            cacheInfos.size() + offHeapCacheInfos.size() + redisCacheInfos.size() + 1, 1.0F);
+                    for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+                        caches.put(cacheInfo.name, CaffeineCacheBuilder.build(cacheInfo, metricsInitializer));
+                    }
+                    for (OffHeapCacheInfo cacheInfo : offHeapCacheInfos) {
+                        LOGGER.debugf(
+                                "Building off-heap cache [%s] with [capacity=%s], [segments=%s], [expireAfterWrite=%s] "
+                                        + "and [codec=%s]",
+                                cacheInfo.name, cacheInfo.capacity, cacheInfo.segments, cacheInfo.expireAfterWrite,
+                                cacheInfo.codec);
+                        caches.put(cacheInfo.name, new OffHeapCacheImpl(cacheInfo));
+                    }
+                    for (RedisCacheInfo cacheInfo : redisCacheInfos) {
+                        LOGGER.debugf(
+                                "Building Redis cache [%s] with [keyPrefix=%s], [expireAfterWrite=%s], [localMaximumSize=%s], "
+                                        + "[localExpireAfterWrite=%s], [codec=%s] and [invalidationChannel=%s]",
+                                cacheInfo.name, cacheInfo.keyPrefix, cacheInfo.expireAfterWrite, cacheInfo.localMaximumSize,
+                                cacheInfo.localExpireAfterWrite, cacheInfo.codec, cacheInfo.invalidationChannel);
+                        caches.put(cacheInfo.name, new RedisCacheImpl(cacheInfo));
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+}
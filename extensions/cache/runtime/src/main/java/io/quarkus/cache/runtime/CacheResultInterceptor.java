@@ -1,6 +1,12 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,6 +52,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, binding, cache, interceptionContext.getCacheKeyParameterPositions());
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -69,7 +78,20 @@ public Uni<?> apply(Object value) {
                                         .call(new Function<Object, Uni<?>>() {
                                             @Override
                                             public Uni<?> apply(Object emittedValue) {
-                                                return cache.replaceUniValue(key, emittedValue);
+                                                return cache.replaceUniValue(key, emittedValue, new Supplier<Uni<?>>() {
+                                                    @Override
+                                                    public Uni<?> get() {
+                                                        // Called in the background if the cache refreshes its entries
+                                                        try {
+                                                            return asyncInvocationResultToUni(invocationContext.proceed(),
+                                                                    returnType);
+                                                        } catch (CacheException e) {
+                                                            throw e;
+                                                        } catch (Exception e) {
+                                                            throw new CacheException(e);
+                                                        }
+                                                    }
+                                                });
                                             }
                                         });
                             } catch (CacheException e) {
@@ -142,4 +164,74 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * The cache key argument is a collection of keys and the method returns a map of their values. The method is only invoked
+     * with the keys that are missing from the cache. The constraints on the method signature are validated at build time.
+     */
+    private Object interceptBulk(InvocationContext invocationContext, CacheResult binding, AbstractCache cache,
+            List<Short> cacheKeyParameterPositions) throws Throwable {
+        int keysPosition = cacheKeyParameterPositions.isEmpty() ? 0 : cacheKeyParameterPositions.get(0);
+        @SuppressWarnings("unchecked")
+        Collection<Object> keys = (Collection<Object>) invocationContext.getParameters()[keysPosition];
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            return cache.getAll(keys, new BulkLoader(invocationContext, keysPosition, binding.cacheName()))
+                    .await().indefinitely();
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Invokes the intercepted method with a subset of the keys. The refreshable cache entries keep it to compute their value
+     * again, so it does not keep the keys of the original invocation.
+     */
+    private static final class BulkLoader implements Function<Set<Object>, Map<Object, Object>> {
+
+        private final InvocationContext invocationContext;
+        private final Object[] parameters;
+        private final int keysPosition;
+        private final boolean keysList;
+        private final String cacheName;
+
+        BulkLoader(InvocationContext invocationContext, int keysPosition, String cacheName) {
+            this.invocationContext = invocationContext;
+            this.parameters = invocationContext.getParameters().clone();
+            this.parameters[keysPosition] = null;
+            this.keysPosition = keysPosition;
+            this.keysList = List.class.equals(invocationContext.getMethod().getParameterTypes()[keysPosition]);
+            this.cacheName = cacheName;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map<Object, Object> apply(Set<Object> keys) {
+            LOGGER.debugf("Adding %s entries into cache [%s]", keys.size(), cacheName);
+            Object[] keysParameters = parameters.clone();
+            keysParameters[keysPosition] = keysList ? new ArrayList<>(keys) : new LinkedHashSet<>(keys);
+            /*
+             * The refreshes of the entries loaded together run concurrently and share the invocation context, which passes its
+             * parameters to the rest of the chain when proceeding. Each invocation sets its own copy of the parameters and
+             * proceeds while holding the lock of the context.
+             */
+            synchronized (invocationContext) {
+                invocationContext.setParameters(keysParameters);
+                try {
+                    return (Map<Object, Object>) invocationContext.proceed();
+                } catch (CacheException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CacheException(e);
+                } finally {
+                    invocationContext.setParameters(parameters);
+                }
+            }
+        }
+    }
+
 }
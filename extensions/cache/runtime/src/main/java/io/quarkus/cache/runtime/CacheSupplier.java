@@ -10,22 +10,24 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
-import io.quarkus.cache.CaffeineCache;
 
-public class CaffeineCacheSupplier implements Supplier<Collection<CaffeineCache>> {
+/**
+ * Supplies the caches of the application, whatever their backend, sorted by name.
+ */
+public class CacheSupplier implements Supplier<Collection<AbstractCache>> {
 
     @Override
-    public List<CaffeineCache> get() {
+    public List<AbstractCache> get() {
         CacheManager cacheManager = cacheManager();
         Collection<String> names = cacheManager.getCacheNames();
-        List<CaffeineCache> allCaches = new ArrayList<>(names.size());
+        List<AbstractCache> allCaches = new ArrayList<>(names.size());
         for (String name : names) {
             Optional<Cache> cache = cacheManager.getCache(name);
-            if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
-                allCaches.add((CaffeineCache) cache.get());
+            if (cache.isPresent() && cache.get() instanceof AbstractCache) {
+                allCaches.add((AbstractCache) cache.get());
             }
         }
-        allCaches.sort(Comparator.comparing(CaffeineCache::getName));
+        allCaches.sort(Comparator.comparing(AbstractCache::getName));
         return allCaches;
     }
 
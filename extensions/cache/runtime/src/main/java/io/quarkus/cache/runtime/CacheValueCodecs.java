@@ -0,0 +1,26 @@
+package io.quarkus.cache.runtime;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.offheap.SerializationCodec;
+
+public class CacheValueCodecs {
+
+    /**
+     * @param codecClassName the class name of the codec, or {@code null} to use the {@link SerializationCodec}
+     * @param cacheName the name of the cache which uses the codec
+     * @return the codec
+     * @throws CacheException if the codec cannot be created
+     */
+    public static CacheValueCodec create(String codecClassName, String cacheName) {
+        if (codecClassName == null) {
+            return new SerializationCodec();
+        }
+        try {
+            return (CacheValueCodec) Class.forName(codecClassName, true, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new CacheException("Unable to create the codec [" + codecClassName + "] of cache [" + cacheName + "]", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+
+public class CaffeineCacheBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCacheBuilder.class);
+
+    public static CaffeineCacheImpl build(CaffeineCacheInfo cacheInfo, MetricsInitializer metricsInitializer) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf(
+                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], "
+                            + "[weigher=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], "
+                            + "[refreshAfterWrite=%s], [staleWhileRevalidate=%s] and [metricsEnabled=%s]",
+                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                    cacheInfo.weigher, cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess,
+                    cacheInfo.refreshAfterWrite, cacheInfo.staleWhileRevalidate, cacheInfo.metricsEnabled);
+        }
+        /*
+         * Metrics will be recorded for the current cache if:
+         * - the application depends on a quarkus-micrometer-registry-* extension
+         * - the metrics are enabled for this cache from the Quarkus configuration
+         */
+        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
+        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
+        if (recordMetrics) {
+            metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+        } else if (cacheInfo.metricsEnabled) {
+            LOGGER.warnf(
+                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                            + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                            + "extension to the pom.xml file.",
+                    cacheInfo.name);
+        }
+        return cache;
+    }
+}
@@ -1,11 +1,16 @@
 package io.quarkus.cache.runtime.caffeine;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,14 +18,23 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.runtime.ExecutorRecorder;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -35,6 +49,7 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
+    private final boolean refreshEnabled;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -45,12 +60,29 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
-        if (cacheInfo.expireAfterWrite != null) {
+        if (cacheInfo.maximumWeight != null) {
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            CacheWeigher weigher = createWeigher(cacheInfo);
+            builder.weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    return weigher.weigh(key, NullValueConverter.fromCacheValue(RefreshableCacheValue.unwrap(value)));
+                }
+            });
+        }
+        if (cacheInfo.staleWhileRevalidate != null) {
+            // The entries are refreshed when they expire, and served while they are refreshed
+            builder.refreshAfterWrite(cacheInfo.expireAfterWrite);
+            builder.expireAfterWrite(cacheInfo.expireAfterWrite.plus(cacheInfo.staleWhileRevalidate));
+        } else if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+        }
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
             statsCounter = new ConcurrentStatsCounter();
@@ -64,7 +96,26 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null || cacheInfo.staleWhileRevalidate != null) {
+            refreshEnabled = true;
+            cache = builder.buildAsync(new RefreshingCacheLoader());
+        } else {
+            refreshEnabled = false;
+            cache = builder.buildAsync();
+        }
+    }
+
+    private static CacheWeigher createWeigher(CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.weigher == null) {
+            return new DefaultCacheWeigher();
+        }
+        try {
+            return (CacheWeigher) Class.forName(cacheInfo.weigher, true, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new CacheException("Unable to create the weigher [" + cacheInfo.weigher + "] of cache [" + cacheInfo.name
+                    + "]", e);
+        }
     }
 
     @Override
@@ -135,7 +186,12 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value, new Supplier<Object>() {
+                    @Override
+                    public Object get() {
+                        return valueLoader.apply(key);
+                    }
+                }));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -148,6 +204,95 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(
+                // The cache values computation is done lazily, at subscription time.
+                new Supplier<CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> get() {
+                        return cast(getAllFromCaffeine(keys, bulkLoader));
+                    }
+                });
+    }
+
+    /**
+     * Same as {@link #getFromCaffeine(Object, Function)} for several keys, the missing values are computed with a single
+     * invocation of {@code bulkLoader}.
+     */
+    private <K, V> CompletableFuture<Map<K, Object>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        statsCounter.recordMisses(newCacheValues.size());
+        if (!newCacheValues.isEmpty()) {
+            LOGGER.tracef("Loading %s missing keys of cache [%s]", newCacheValues.size(), cacheInfo.name);
+            try {
+                Map<K, V> values = bulkLoader.apply(Collections.unmodifiableSet(newCacheValues.keySet()));
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    K key = newCacheValue.getKey();
+                    // A key missing from the loaded values is cached with a null value
+                    Object value = values == null ? null : values.get(key);
+                    newCacheValue.getValue().complete(toCacheValue(value, new Supplier<Object>() {
+                        @Override
+                        public Object get() {
+                            Map<K, V> reloaded = bulkLoader.apply(Collections.singleton(key));
+                            return reloaded == null ? null : reloaded.get(key);
+                        }
+                    }));
+                }
+            } catch (Throwable t) {
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    cache.asMap().remove(newCacheValue.getKey(), newCacheValue.getValue());
+                    newCacheValue.getValue().complete(new CaffeineComputationThrowable(t));
+                }
+            }
+        }
+        for (Map.Entry<K, CompletableFuture<Object>> cacheValue : cacheValues.entrySet()) {
+            cacheValue.setValue(unwrapCacheValueOrThrowable(cacheValue.getValue()));
+        }
+        return allOf(cacheValues);
+    }
+
+    /**
+     * Converts a computed value before it is stored in Caffeine. When the entries are refreshed, the value is stored with the
+     * {@code loader} that computes it again.
+     */
+    private Object toCacheValue(Object value, Supplier<Object> loader) {
+        if (!refreshEnabled || value == UnresolvedUniValue.INSTANCE) {
+            return NullValueConverter.toCacheValue(value);
+        }
+        return new RefreshableCacheValue(NullValueConverter.toCacheValue(value),
+                new Function<Executor, CompletableFuture<Object>>() {
+                    @Override
+                    public CompletableFuture<Object> apply(Executor executor) {
+                        return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return withRequestContext(loader);
+                            }
+                        }, executor);
+                    }
+                });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -161,7 +306,7 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return NullValueConverter.fromCacheValue(RefreshableCacheValue.unwrap(value));
                 }
             }
         });
@@ -213,6 +358,30 @@ public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> curre
         });
     }
 
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue, Supplier<Uni<?>> reloader) {
+        if (!refreshEnabled) {
+            return replaceUniValue(key, emittedValue);
+        }
+        return replaceUniValue(key, new RefreshableCacheValue(NullValueConverter.toCacheValue(emittedValue),
+                new Function<Executor, CompletableFuture<Object>>() {
+                    @Override
+                    public CompletableFuture<Object> apply(Executor executor) {
+                        return CompletableFuture.supplyAsync(new Supplier<CompletionStage<Object>>() {
+                            @Override
+                            public CompletionStage<Object> get() {
+                                return withRequestContext(new Supplier<CompletionStage<Object>>() {
+                                    @Override
+                                    public CompletionStage<Object> get() {
+                                        return cast(reloader.get().subscribeAsCompletionStage());
+                                    }
+                                });
+                            }
+                        }, executor).thenCompose(Function.identity());
+                    }
+                }));
+    }
+
     @Override
     public Set<Object> keySet() {
         return Collections.unmodifiableSet(new HashSet<>(cache.asMap().keySet()));
@@ -228,10 +397,82 @@ public CaffeineCacheInfo getCacheInfo() {
         return cacheInfo;
     }
 
+    @Override
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    /**
+     * @return the accumulated weight of the entries, or {@code -1} if the cache is not bounded by weight
+     */
+    public long getWeightedSize() {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            return eviction.get().weightedSize().getAsLong();
+        }
+        return -1;
+    }
+
+    /**
+     * Runs a refresh with an active request context, as the cached methods may use request scoped beans. The refreshes
+     * run on a thread of their own, so a new request context is activated if none is active.
+     */
+    private static <T> T withRequestContext(Supplier<T> refresh) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return refresh.get();
+        }
+        ManagedContext requestContext = container.requestContext();
+        if (requestContext.isActive()) {
+            return refresh.get();
+        }
+        requestContext.activate();
+        try {
+            return refresh.get();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    /**
+     * Recomputes the entries with the function stored with their value. The entries are only loaded by
+     * {@link CaffeineCacheImpl}, never by Caffeine.
+     */
+    private static class RefreshingCacheLoader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<?> asyncLoad(Object key, Executor executor) {
+            // Only the caller of CaffeineCacheImpl knows how to compute a missing entry, so nothing is loaded and the entry
+            // stays absent. Caffeine only loads entries for its own lookup methods, which are not used.
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<?> asyncReload(Object key, Object oldValue, Executor executor) {
+            if (oldValue == UnresolvedUniValue.INSTANCE) {
+                // The Uni is still being resolved, replaceUniValue() will store its item
+                return CompletableFuture.completedFuture(oldValue);
+            }
+            if (!(oldValue instanceof RefreshableCacheValue)) {
+                // A value that was put directly cannot be computed again, it is removed instead
+                return CompletableFuture.completedFuture(null);
+            }
+            Function<Executor, CompletableFuture<Object>> reloader = ((RefreshableCacheValue) oldValue).reloader;
+            LOGGER.tracef("Refreshing key [%s]", key);
+            /*
+             * The executor of Caffeine is the common ForkJoinPool, which must not run the cached methods as they may block.
+             * The Quarkus worker pool is used instead, as long as it is available.
+             */
+            Executor workerPool = ExecutorRecorder.getCurrent();
+            return reloader.apply(workerPool != null ? workerPool : executor).thenApply(new Function<Object, Object>() {
+                @Override
+                public Object apply(Object value) {
+                    return new RefreshableCacheValue(NullValueConverter.toCacheValue(value), reloader);
+                }
+            });
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -11,10 +11,24 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    /**
+     * The class name of the {@link io.quarkus.cache.CacheWeigher}, or {@code null} to use the {@link DefaultCacheWeigher}.
+     */
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    /**
+     * How long an entry can be served after {@link #expireAfterWrite}, while it is refreshed in the background.
+     */
+    public Duration staleWhileRevalidate;
+
     public boolean metricsEnabled;
 
     @Override
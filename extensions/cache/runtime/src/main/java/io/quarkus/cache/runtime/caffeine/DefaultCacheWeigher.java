@@ -0,0 +1,105 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * Estimates the heap usage in bytes of a cache entry, assuming a 64-bit JVM with compressed references.
+ * <p>
+ * Strings, arrays, boxed primitives, collections and maps are estimated from their content. Any other
+ * object is weighed with a constant, so a cache of complex values should use a {@link CacheWeigher} that knows these values.
+ */
+public class DefaultCacheWeigher implements CacheWeigher {
+
+    static final int OBJECT_HEADER = 16;
+    static final int ARRAY_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int UNKNOWN_OBJECT = 64;
+    // an entry of the cache itself, i.e. the node, the completed future and the map entry
+    static final int ENTRY_OVERHEAD = 96;
+
+    // limits the cost of weighing deeply nested values, and protects against cycles
+    private static final int MAX_DEPTH = 8;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD + estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    static long estimate(Object object, int depth) {
+        if (object == null) {
+            return 0;
+        }
+        if (object instanceof String) {
+            // the object and its array, compact strings store a Latin-1 string with one byte per char
+            return OBJECT_HEADER + 8 + ARRAY_HEADER + ((String) object).length();
+        }
+        if (object instanceof byte[]) {
+            return ARRAY_HEADER + ((byte[]) object).length;
+        }
+        if (object instanceof char[]) {
+            return ARRAY_HEADER + 2L * ((char[]) object).length;
+        }
+        if (object instanceof int[]) {
+            return ARRAY_HEADER + 4L * ((int[]) object).length;
+        }
+        if (object instanceof long[]) {
+            return ARRAY_HEADER + 8L * ((long[]) object).length;
+        }
+        if (object instanceof double[]) {
+            return ARRAY_HEADER + 8L * ((double[]) object).length;
+        }
+        if (object instanceof BigInteger) {
+            return OBJECT_HEADER + 24 + ARRAY_HEADER + (((BigInteger) object).bitLength() >> 3);
+        }
+        if (object instanceof BigDecimal) {
+            return OBJECT_HEADER + 24 + estimate(((BigDecimal) object).unscaledValue(), depth);
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (object instanceof Enum) {
+            // shared instance
+            return 0;
+        }
+        if (depth >= MAX_DEPTH) {
+            return UNKNOWN_OBJECT;
+        }
+        if (object instanceof Object[]) {
+            Object[] array = (Object[]) object;
+            long weight = ARRAY_HEADER + (long) REFERENCE * array.length;
+            for (Object element : array) {
+                weight += estimate(element, depth + 1);
+            }
+            return weight;
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            // the backing array or the nodes
+            long weight = OBJECT_HEADER + ARRAY_HEADER + 16L * collection.size();
+            for (Object element : collection) {
+                weight += estimate(element, depth + 1);
+            }
+            return weight;
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            // the table and the entries
+            long weight = OBJECT_HEADER + ARRAY_HEADER + 40L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return weight;
+        }
+        if (object instanceof Optional) {
+            return OBJECT_HEADER + estimate(((Optional<?>) object).orElse(null), depth + 1);
+        }
+        return UNKNOWN_OBJECT;
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A cache value stored with the function that computes it again, so that Caffeine can refresh the entry in the background.
+ */
+final class RefreshableCacheValue {
+
+    /**
+     * The value, converted with {@link io.quarkus.cache.runtime.NullValueConverter#toCacheValue(Object)}.
+     */
+    final Object value;
+    /**
+     * Computes the new value of the entry, with the given executor.
+     */
+    final Function<Executor, CompletableFuture<Object>> reloader;
+
+    RefreshableCacheValue(Object value, Function<Executor, CompletableFuture<Object>> reloader) {
+        this.value = value;
+        this.reloader = reloader;
+    }
+
+    static Object unwrap(Object cacheValue) {
+        return cacheValue instanceof RefreshableCacheValue ? ((RefreshableCacheValue) cacheValue).value : cacheValue;
+    }
+}
@@ -1,9 +1,13 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.Optional;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Policy;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
@@ -25,5 +29,27 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing Micrometer metrics for cache [%s]", cacheName);
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
+
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            // With the default weigher, the weight is an estimate of the heap usage in bytes
+            // The gauges reference the cache, like CaffeineCacheMetrics, because Micrometer only keeps a weak reference
+            Gauge.builder("cache.weight", cache, MicrometerMetricsInitializer::weightedSize)
+                    .tag("cache", cacheName)
+                    .description("The approximate accumulated weight of the entries in this cache")
+                    .register(Metrics.globalRegistry);
+            Gauge.builder("cache.maximum.weight", cache, MicrometerMetricsInitializer::maximumWeight)
+                    .tag("cache", cacheName)
+                    .description("The maximum weight of the entries in this cache")
+                    .register(Metrics.globalRegistry);
+        }
+    }
+
+    private static double weightedSize(AsyncCache<Object, Object> cache) {
+        return cache.synchronous().policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private static double maximumWeight(AsyncCache<Object, Object> cache) {
+        return cache.synchronous().policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L);
     }
 }
@@ -8,9 +8,8 @@
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.cache.Cache;
-import io.quarkus.cache.CaffeineCache;
-import io.quarkus.cache.runtime.CaffeineCacheSupplier;
-import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheSupplier;
 import io.quarkus.devconsole.runtime.spi.DevConsolePostHandler;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.devmode.Json;
@@ -26,17 +25,19 @@ public Handler<RoutingContext> clearCacheHandler() {
             @Override
             protected void handlePost(RoutingContext event, MultiMap form) {
                 String cacheName = form.get("name");
-                Optional<Cache> cache = CaffeineCacheSupplier.cacheManager().getCache(cacheName);
-                if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
-                    CaffeineCacheImpl caffeineCache = (CaffeineCacheImpl) cache.get();
+                Optional<Cache> cache = CacheSupplier.cacheManager().getCache(cacheName);
+                if (cache.isPresent() && cache.get() instanceof AbstractCache) {
+                    AbstractCache foundCache = (AbstractCache) cache.get();
 
                     String action = form.get("action");
                     if (action.equalsIgnoreCase("clearCache")) {
-                        caffeineCache.invalidateAll().subscribe().with(ignored -> {
-                            endResponse(event, OK, createResponseMessage(caffeineCache));
+                        foundCache.invalidateAll().subscribe().with(ignored -> {
+                            endResponse(event, OK, createResponseMessage(foundCache));
+                        }, failure -> {
+                            endResponse(event, INTERNAL_SERVER_ERROR, createResponseError(cacheName, failure.getMessage()));
                         });
                     } else if (action.equalsIgnoreCase("refresh")) {
-                        endResponse(event, OK, createResponseMessage(caffeineCache));
+                        endResponse(event, OK, createResponseMessage(foundCache));
                     } else {
                         String errorMessage = "Invalid action: " + action;
                         endResponse(event, INTERNAL_SERVER_ERROR, createResponseError(cacheName, errorMessage));
@@ -56,7 +57,7 @@ private void endResponse(RoutingContext event, HttpResponseStatus status, String
             protected void actionSuccess(RoutingContext event) {
             }
 
-            private String createResponseMessage(CaffeineCacheImpl cache) {
+            private String createResponseMessage(AbstractCache cache) {
                 Json.JsonObjectBuilder object = Json.object();
                 object.put("name", cache.getName());
                 object.put("size", cache.getSize());
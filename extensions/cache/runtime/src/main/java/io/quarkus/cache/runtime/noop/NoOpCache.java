@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -29,6 +34,22 @@ public V get() {
         });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+                Map<K, V> values = bulkLoader.apply(uniqueKeys);
+                Map<K, V> result = new LinkedHashMap<>();
+                for (K key : uniqueKeys) {
+                    result.put(key, values == null ? null : values.get(key));
+                }
+                return result;
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
@@ -0,0 +1,299 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheValueCodecs;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The values are encoded with a {@link CacheValueCodec} and stored in direct memory, so a large cache does not grow the heap
+ * nor the work of the garbage collector. The keys, and the values that are being computed, are kept on-heap.
+ */
+public class OffHeapCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapCacheImpl.class);
+
+    private static final Object MISS = new Object();
+
+    private final OffHeapCacheInfo cacheInfo;
+    private final CacheValueCodec codec;
+    private final OffHeapSegment[] segments;
+    private final long expireAfterWriteNanos;
+    // The values that are being computed, and the Uni values that are not resolved yet
+    private final ConcurrentMap<Object, CompletableFuture<Object>> pending = new ConcurrentHashMap<>();
+
+    public OffHeapCacheImpl(OffHeapCacheInfo cacheInfo) {
+        this.cacheInfo = cacheInfo;
+        this.codec = CacheValueCodecs.create(cacheInfo.codec, cacheInfo.name);
+        this.segments = new OffHeapSegment[cacheInfo.segments];
+        int segmentCapacity = (int) (cacheInfo.capacity / cacheInfo.segments);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new OffHeapSegment(segmentCapacity);
+        }
+        this.expireAfterWriteNanos = cacheInfo.expireAfterWrite != null ? cacheInfo.expireAfterWrite.toNanos() : 0;
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().completionStage(
+                // The value computation is done lazily, at subscription time
+                new Supplier<CompletionStage<V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public CompletionStage<V> get() {
+                        return (CompletionStage<V>) getOrLoad(key, valueLoader);
+                    }
+                });
+    }
+
+    private <K, V> CompletableFuture<Object> getOrLoad(K key, Function<K, V> valueLoader) {
+        Object cachedValue = lookup(key);
+        if (cachedValue != MISS) {
+            return CompletableFuture.completedFuture(cachedValue);
+        }
+        CompletableFuture<Object> newValue = new CompletableFuture<>();
+        CompletableFuture<Object> existingValue = pending.putIfAbsent(key, newValue);
+        if (existingValue != null) {
+            LOGGER.tracef("Key [%s] is being computed for cache [%s]", key, cacheInfo.name);
+            return existingValue;
+        }
+        // The value may have been stored by another thread since the lookup
+        cachedValue = lookup(key);
+        if (cachedValue != MISS) {
+            pending.remove(key, newValue);
+            newValue.complete(cachedValue);
+            return newValue;
+        }
+        Object value;
+        try {
+            value = valueLoader.apply(key);
+        } catch (Throwable t) {
+            pending.remove(key, newValue);
+            newValue.completeExceptionally(t instanceof RuntimeException ? t : new CacheException(t));
+            return newValue;
+        }
+        if (value != UnresolvedUniValue.INSTANCE) {
+            storeIfPending(key, newValue, value);
+        }
+        // An unresolved Uni value stays pending until replaceUniValue() is called
+        newValue.complete(value);
+        return newValue;
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(
+                // The values computation is done lazily, at subscription time
+                new Supplier<CompletionStage<Map<K, V>>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public CompletionStage<Map<K, V>> get() {
+                        return (CompletionStage<Map<K, V>>) (CompletionStage<?>) getAllOrLoad(keys, bulkLoader);
+                    }
+                });
+    }
+
+    private <K, V> CompletableFuture<Map<K, Object>> getAllOrLoad(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, CompletableFuture<Object>> values = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (values.containsKey(key)) {
+                continue;
+            }
+            Object cachedValue = lookup(key);
+            if (cachedValue != MISS) {
+                values.put(key, CompletableFuture.completedFuture(cachedValue));
+                continue;
+            }
+            CompletableFuture<Object> newValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingValue = pending.putIfAbsent(key, newValue);
+            if (existingValue != null) {
+                values.put(key, existingValue);
+                continue;
+            }
+            // The value may have been stored by another thread since the lookup
+            cachedValue = lookup(key);
+            if (cachedValue != MISS) {
+                pending.remove(key, newValue);
+                newValue.complete(cachedValue);
+            } else {
+                newValues.put(key, newValue);
+            }
+            values.put(key, newValue);
+        }
+        if (!newValues.isEmpty()) {
+            LOGGER.tracef("Loading %s missing keys of cache [%s]", newValues.size(), cacheInfo.name);
+            Map<K, V> loadedValues;
+            try {
+                loadedValues = bulkLoader.apply(Collections.unmodifiableSet(newValues.keySet()));
+            } catch (Throwable t) {
+                for (Map.Entry<K, CompletableFuture<Object>> newValue : newValues.entrySet()) {
+                    pending.remove(newValue.getKey(), newValue.getValue());
+                    newValue.getValue().completeExceptionally(t instanceof RuntimeException ? t : new CacheException(t));
+                }
+                return allOf(values);
+            }
+            for (Map.Entry<K, CompletableFuture<Object>> newValue : newValues.entrySet()) {
+                // A key missing from the loaded values is cached with a null value
+                Object value = loadedValues == null ? null : loadedValues.get(newValue.getKey());
+                storeIfPending(newValue.getKey(), newValue.getValue(), value);
+                newValue.getValue().complete(value);
+            }
+        }
+        return allOf(values);
+    }
+
+    private void storeIfPending(Object key, CompletableFuture<Object> pendingValue, Object value) {
+        // If the key was invalidated during the computation, the value must not be stored
+        pending.computeIfPresent(key, new BiFunction<Object, CompletableFuture<Object>, CompletableFuture<Object>>() {
+            @Override
+            public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> currentValue) {
+                if (currentValue == pendingValue) {
+                    store(k, value);
+                    return null;
+                }
+                return currentValue;
+            }
+        });
+    }
+
+    private Object lookup(Object key) {
+        OffHeapSegment segment = segmentFor(key);
+        byte[] bytes = segment.read(key, expireAfterWriteNanos);
+        if (bytes == null) {
+            return MISS;
+        }
+        if (bytes == OffHeapSegment.NULL_VALUE) {
+            return null;
+        }
+        try {
+            Object value = codec.decode(bytes);
+            LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
+            return value;
+        } catch (CacheException e) {
+            LOGGER.warnf(e, "Unable to decode the value of key [%s] in cache [%s], the entry is removed", key,
+                    cacheInfo.name);
+            segment.remove(key);
+            return MISS;
+        }
+    }
+
+    private void store(Object key, Object value) {
+        byte[] bytes;
+        if (value == null) {
+            bytes = null;
+        } else {
+            try {
+                bytes = codec.encode(value);
+            } catch (CacheException e) {
+                LOGGER.warnf(e, "Unable to encode the value of key [%s] in cache [%s], the value is not cached", key,
+                        cacheInfo.name);
+                return;
+            }
+        }
+        if (!segmentFor(key).write(key, bytes)) {
+            LOGGER.debugf("The value of key [%s] is larger than a segment of cache [%s], the value is not cached", key,
+                    cacheInfo.name);
+        }
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().item(new Supplier<Void>() {
+            @Override
+            public Void get() {
+                pending.remove(key);
+                segmentFor(key).remove(key);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().item(new Supplier<Void>() {
+            @Override
+            public Void get() {
+                pending.clear();
+                for (OffHeapSegment segment : segments) {
+                    segment.clear();
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        return Uni.createFrom().item(new Supplier<Void>() {
+            @Override
+            public Void get() {
+                // If the cache no longer contains the key because it was removed, we don't want to put it back.
+                pending.computeIfPresent(key, new BiFunction<Object, CompletableFuture<Object>, CompletableFuture<Object>>() {
+                    @Override
+                    public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> currentValue) {
+                        if (currentValue.getNow(null) == UnresolvedUniValue.INSTANCE) {
+                            LOGGER.debugf("Replacing Uni value entry with key [%s] into cache [%s]", key, cacheInfo.name);
+                            store(k, emittedValue);
+                            return null;
+                        }
+                        return currentValue;
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
+    // For testing purposes only.
+    public OffHeapCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0;
+        for (OffHeapSegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private OffHeapSegment segmentFor(Object key) {
+        int hash = key.hashCode();
+        // Spread the high bits, like HashMap
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class OffHeapCacheInfo {
+
+    public String name;
+
+    public long capacity;
+
+    public int segments;
+
+    public Duration expireAfterWrite;
+
+    /**
+     * The class name of the {@link io.quarkus.cache.CacheValueCodec}, or {@code null} to use the {@link SerializationCodec}.
+     */
+    public String codec;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof OffHeapCacheInfo) {
+            OffHeapCacheInfo other = (OffHeapCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
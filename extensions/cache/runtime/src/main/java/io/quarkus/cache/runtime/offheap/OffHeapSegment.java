@@ -0,0 +1,151 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A part of an off-heap cache: a ring of direct memory where the records are appended, and an on-heap index of the keys.
+ * <p>
+ * The records are written at a position that only grows, modulo the capacity of the ring. Once the ring is full, a new record
+ * overwrites the oldest ones, so the eviction is first in, first out. Writes are serialized by a lock, reads do not lock: a
+ * reader copies a record, then checks that the writer did not reach it meanwhile, like a sequence lock.
+ */
+final class OffHeapSegment {
+
+    /**
+     * Returned by {@link #read(Object, long)} for a record of a {@code null} value.
+     */
+    static final byte[] NULL_VALUE = new byte[0];
+
+    private static final byte NULL_TAG = 0;
+    private static final byte VALUE_TAG = 1;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final ConcurrentMap<Object, Slot> index = new ConcurrentHashMap<>();
+    // The slots in the order they were written, guarded by the lock
+    private final ArrayDeque<Slot> writeOrder = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // The records in [writePosition - capacity, writePosition) are intact
+    private volatile long writePosition;
+
+    OffHeapSegment(int capacity) {
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * @param key the key
+     * @param expireAfterWriteNanos the duration after which a record expires, or {@code 0}
+     * @return the bytes of the value, {@link #NULL_VALUE} if the value is {@code null}, or {@code null} if the key is not
+     *         found
+     */
+    byte[] read(Object key, long expireAfterWriteNanos) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (expireAfterWriteNanos > 0 && System.nanoTime() - slot.writtenAt >= expireAfterWriteNanos) {
+            index.remove(key, slot);
+            return null;
+        }
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset(slot.position));
+        byte tag = view.get();
+        byte[] bytes = tag == NULL_TAG ? NULL_VALUE : new byte[slot.length - 1];
+        view.get(bytes);
+        // The copy must be complete before the position is checked
+        VarHandle.loadLoadFence();
+        if (slot.position + capacity < writePosition) {
+            // Overwritten while it was copied
+            index.remove(key, slot);
+            return null;
+        }
+        return bytes;
+    }
+
+    /**
+     * @param key the key
+     * @param bytes the bytes of the value, or {@code null} if the value is {@code null}
+     * @return {@code true} if the value was stored, {@code false} if it does not fit in the segment
+     */
+    boolean write(Object key, byte[] bytes) {
+        int length = bytes == null ? 1 : bytes.length + 1;
+        if (length > capacity) {
+            return false;
+        }
+        lock.lock();
+        try {
+            long position = writePosition;
+            int offset = offset(position);
+            if (offset + length > capacity) {
+                // A record is never split, the end of the ring is skipped
+                position += capacity - offset;
+            }
+            long end = position + length;
+            // Readers must see the new position before they can see the new bytes
+            writePosition = end;
+            VarHandle.storeStoreFence();
+            for (Slot oldest = writeOrder.peekFirst(); oldest != null
+                    && oldest.position + capacity < end; oldest = writeOrder.peekFirst()) {
+                writeOrder.pollFirst();
+                index.remove(oldest.key, oldest);
+            }
+            buffer.position(offset(position));
+            if (bytes == null) {
+                buffer.put(NULL_TAG);
+            } else {
+                buffer.put(VALUE_TAG);
+                buffer.put(bytes);
+            }
+            Slot slot = new Slot(key, position, length, System.nanoTime());
+            writeOrder.addLast(slot);
+            index.put(key, slot);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Object key) {
+        // The memory is reclaimed when the ring wraps around
+        index.remove(key);
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            writeOrder.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    private int offset(long position) {
+        return (int) (position % capacity);
+    }
+
+    private static final class Slot {
+
+        final Object key;
+        final long position;
+        final int length;
+        final long writtenAt;
+
+        Slot(Object key, long position, int length, long writtenAt) {
+            this.key = key;
+            this.position = position;
+            this.length = length;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * The default codec of the off-heap caches, based on the Java serialization.
+ */
+public class SerializationCodec implements CacheValueCodec {
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new CacheException("Unable to serialize a value of type " + value.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try (ObjectInputStream in = new ApplicationObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Unable to deserialize a cached value", e);
+        }
+    }
+
+    /**
+     * Resolves the classes with the class loader of the application, which is not the one of this class in dev mode.
+     */
+    private static final class ApplicationObjectInputStream extends ObjectInputStream {
+
+        ApplicationObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // primitive types and the classes of the JDK
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
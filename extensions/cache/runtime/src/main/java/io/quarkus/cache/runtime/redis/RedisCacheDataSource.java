@@ -0,0 +1,21 @@
+package io.quarkus.cache.runtime.redis;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+
+/**
+ * Gives the Redis caches access to the default Redis data source. This bean is only registered if a Redis cache is
+ * configured, its injection point makes the Redis client extension create the data source.
+ */
+@Singleton
+public class RedisCacheDataSource {
+
+    @Inject
+    ReactiveRedisDataSource dataSource;
+
+    public ReactiveRedisDataSource get() {
+        return dataSource;
+    }
+}
@@ -0,0 +1,519 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheValueCodecs;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The values are stored in a local Caffeine cache, in front of Redis which is shared by all the instances of the application.
+ * A value which is not found locally is read from Redis, and only computed if Redis does not have it either. When an entry is
+ * invalidated, its key is published on a Redis channel so that every instance removes it from its local cache.
+ * <p>
+ * The Redis key of an entry is the key prefix followed by the string representation of the cache key. A key which would be
+ * represented by its identity, because its class or the class of one of its composite elements does not override
+ * {@link Object#toString()}, is rejected: two equal keys would not share an entry, and two instances could not either.
+ */
+public class RedisCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    private static final Object MISS = new Object();
+    private static final byte NULL_TAG = 0;
+    private static final byte VALUE_TAG = 1;
+    private static final int DELETE_BATCH_SIZE = 100;
+    private static final ClassValue<Boolean> OVERRIDES_TO_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final RedisCacheInfo cacheInfo;
+    private final CaffeineCacheImpl localCache;
+    private final CacheValueCodec codec;
+    private final SetArgs setArgs;
+    // The pattern of all the Redis keys of the cache, also published when all the entries are invalidated
+    private final String keyPattern;
+
+    /*
+     * The cache is created at static init, the data source is resolved when the cache is first used. A failed connection is
+     * attempted again by the next operation.
+     */
+    private volatile Uni<Void> connection;
+    private volatile ReactiveValueCommands<String, byte[]> values;
+    private volatile ReactiveKeyCommands<String> keys;
+    private volatile ReactivePubSubCommands<String> pubSub;
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo) {
+        this.cacheInfo = cacheInfo;
+        CaffeineCacheInfo localCacheInfo = new CaffeineCacheInfo();
+        localCacheInfo.name = cacheInfo.name;
+        localCacheInfo.maximumSize = cacheInfo.localMaximumSize;
+        localCacheInfo.expireAfterWrite = cacheInfo.localExpireAfterWrite;
+        this.localCache = new CaffeineCacheImpl(localCacheInfo, false);
+        this.codec = CacheValueCodecs.create(cacheInfo.codec, cacheInfo.name);
+        this.setArgs = cacheInfo.expireAfterWrite != null ? new SetArgs().px(cacheInfo.expireAfterWrite) : null;
+        this.keyPattern = cacheInfo.keyPrefix + "*";
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                if (Infrastructure.canCallerThreadBeBlocked()) {
+                    // The local cache computes a missing value once per instance, Redis is called from the current thread
+                    return localCache.get(redisKey, new Function<String, V>() {
+                        @Override
+                        public V apply(String k) {
+                            return cast(loadBlocking(key, redisKey, valueLoader));
+                        }
+                    });
+                }
+                // An event loop thread must not be blocked
+                CompletableFuture<V> localValue = localCache.getIfPresent(redisKey);
+                if (localValue != null) {
+                    return Uni.createFrom().completionStage(localValue);
+                }
+                return loadAsync(key, redisKey, valueLoader);
+            }
+        });
+    }
+
+    private <K, V> Object loadBlocking(K key, String redisKey, Function<K, V> valueLoader) {
+        Object remoteValue = remoteGet(redisKey).await().indefinitely();
+        if (remoteValue != MISS) {
+            return remoteValue;
+        }
+        V value = valueLoader.apply(key);
+        if (value != UnresolvedUniValue.INSTANCE) {
+            remoteSet(redisKey, value).await().indefinitely();
+        }
+        return value;
+    }
+
+    private <K, V> Uni<V> loadAsync(K key, String redisKey, Function<K, V> valueLoader) {
+        return remoteGet(redisKey).chain(new Function<Object, Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> apply(Object remoteValue) {
+                if (remoteValue != MISS) {
+                    putLocal(redisKey, remoteValue);
+                    return Uni.createFrom().item(cast(remoteValue));
+                }
+                V value = valueLoader.apply(key);
+                if (value == UnresolvedUniValue.INSTANCE) {
+                    return Uni.createFrom().item(value);
+                }
+                putLocal(redisKey, value);
+                return remoteSet(redisKey, value).replaceWith(value);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<String, K> redisKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            redisKeys.put(redisKey(key), key);
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<String, Object>>>() {
+            @Override
+            public Uni<? extends Map<String, Object>> get() {
+                if (Infrastructure.canCallerThreadBeBlocked()) {
+                    return localCache.getAll(redisKeys.keySet(), new Function<Set<String>, Map<String, Object>>() {
+                        @Override
+                        public Map<String, Object> apply(Set<String> missingRedisKeys) {
+                            return loadAll(missingRedisKeys, redisKeys, bulkLoader).await().indefinitely();
+                        }
+                    });
+                }
+                Map<String, Object> localValues = new LinkedHashMap<>();
+                Set<String> missingRedisKeys = new LinkedHashSet<>();
+                for (String redisKey : redisKeys.keySet()) {
+                    CompletableFuture<Object> localValue = localCache.getIfPresent(redisKey);
+                    if (localValue != null && localValue.isDone() && !localValue.isCompletedExceptionally()) {
+                        localValues.put(redisKey, localValue.join());
+                    } else {
+                        missingRedisKeys.add(redisKey);
+                    }
+                }
+                if (missingRedisKeys.isEmpty()) {
+                    return Uni.createFrom().item(localValues);
+                }
+                return loadAll(missingRedisKeys, redisKeys, bulkLoader)
+                        .map(new Function<Map<String, Object>, Map<String, Object>>() {
+                            @Override
+                            public Map<String, Object> apply(Map<String, Object> loadedValues) {
+                                for (Map.Entry<String, Object> loadedValue : loadedValues.entrySet()) {
+                                    putLocal(loadedValue.getKey(), loadedValue.getValue());
+                                }
+                                localValues.putAll(loadedValues);
+                                return localValues;
+                            }
+                        });
+            }
+        }).map(new Function<Map<String, Object>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<String, Object> valuesByRedisKey) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (Map.Entry<String, K> redisKey : redisKeys.entrySet()) {
+                    result.put(redisKey.getValue(), cast(valuesByRedisKey.get(redisKey.getKey())));
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Reads the given keys from Redis and computes the values Redis does not have with a single invocation of
+     * {@code bulkLoader}.
+     */
+    private <K, V> Uni<Map<String, Object>> loadAll(Set<String> missingRedisKeys, Map<String, K> redisKeys,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        return remoteGetAll(missingRedisKeys).chain(new Function<Map<String, Object>, Uni<? extends Map<String, Object>>>() {
+            @Override
+            public Uni<? extends Map<String, Object>> apply(Map<String, Object> remoteValues) {
+                Map<String, Object> result = new LinkedHashMap<>();
+                Set<K> missingKeys = new LinkedHashSet<>();
+                for (String redisKey : missingRedisKeys) {
+                    Object remoteValue = remoteValues.getOrDefault(redisKey, MISS);
+                    if (remoteValue == MISS) {
+                        missingKeys.add(redisKeys.get(redisKey));
+                    } else {
+                        result.put(redisKey, remoteValue);
+                    }
+                }
+                if (missingKeys.isEmpty()) {
+                    return Uni.createFrom().item(result);
+                }
+                Map<K, V> loadedValues = bulkLoader.apply(missingKeys);
+                List<Uni<Void>> writes = new ArrayList<>();
+                for (K key : missingKeys) {
+                    // A key missing from the loaded values is cached with a null value
+                    V value = loadedValues == null ? null : loadedValues.get(key);
+                    String redisKey = redisKey(key);
+                    result.put(redisKey, value);
+                    writes.add(remoteSet(redisKey, value));
+                }
+                return Uni.join().all(writes).andFailFast().replaceWith(result);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        return localCache.invalidate(redisKey)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return connection();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Integer>>() {
+                    @Override
+                    public Uni<? extends Integer> get() {
+                        return keys.del(redisKey);
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        // The other instances remove the key from their local cache
+                        return pubSub.publish(cacheInfo.invalidationChannel, redisKey);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        // The key is still removed from the local cache
+                        LOGGER.warnf(t, "Unable to invalidate key [%s] of cache [%s] in Redis", redisKey, cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return localCache.invalidateAll()
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return connection();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Integer>>() {
+                    @Override
+                    public Uni<? extends Integer> get() {
+                        // SCAN does not block Redis like KEYS would
+                        return keys.scan(new KeyScanArgs().match(keyPattern)).toMulti()
+                                .group().intoLists().of(DELETE_BATCH_SIZE)
+                                .onItem().transformToUniAndConcatenate(new Function<List<String>, Uni<? extends Integer>>() {
+                                    @Override
+                                    public Uni<? extends Integer> apply(List<String> batch) {
+                                        return keys.del(batch.toArray(new String[0]));
+                                    }
+                                })
+                                .collect().last();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return pubSub.publish(cacheInfo.invalidationChannel, keyPattern);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        // The local cache is still cleared
+                        LOGGER.warnf(t, "Unable to invalidate the keys of cache [%s] in Redis", cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        String redisKey = redisKey(key);
+        /*
+         * The value is only stored locally if the local cache still contains the key. It is always stored in Redis, because the
+         * pending computation of an event loop thread is not tracked locally.
+         */
+        return localCache.replaceUniValue(redisKey, emittedValue).chain(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return remoteSet(redisKey, emittedValue);
+            }
+        });
+    }
+
+    // For testing purposes only.
+    public RedisCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    public CaffeineCacheImpl getLocalCache() {
+        return localCache;
+    }
+
+    /**
+     * Returns the number of entries of the local cache. Counting the keys stored in Redis would require a scan.
+     */
+    @Override
+    public long getSize() {
+        return localCache.getSize();
+    }
+
+    private String redisKey(Object key) {
+        if (key instanceof CompositeCacheKey) {
+            for (Object keyElement : ((CompositeCacheKey) key).getKeyElements()) {
+                if (keyElement != null) {
+                    checkKeyType(keyElement);
+                }
+            }
+        } else {
+            checkKeyType(key);
+        }
+        return cacheInfo.keyPrefix + key;
+    }
+
+    private void checkKeyType(Object key) {
+        if (!OVERRIDES_TO_STRING.get(key.getClass())) {
+            throw new CacheException("Key type [" + key.getClass().getName() + "] of cache [" + cacheInfo.name
+                    + "] does not override toString(), it cannot be stored in Redis");
+        }
+    }
+
+    private void putLocal(String redisKey, Object value) {
+        localCache.put(redisKey, CompletableFuture.completedFuture(NullValueConverter.toCacheValue(value)));
+    }
+
+    private Uni<Void> connection() {
+        Uni<Void> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = connect().memoize().indefinitely();
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Uni<Void> connect() {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                ReactiveRedisDataSource dataSource = Arc.container().instance(RedisCacheDataSource.class).get().get();
+                values = dataSource.value(String.class, byte[].class);
+                keys = dataSource.key(String.class);
+                pubSub = dataSource.pubsub(String.class);
+                return pubSub.subscribe(cacheInfo.invalidationChannel, new Consumer<String>() {
+                    @Override
+                    public void accept(String message) {
+                        onInvalidation(message);
+                    }
+                }).replaceWithVoid();
+            }
+        }).onFailure().invoke(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                LOGGER.warnf(t, "Unable to subscribe to the invalidations of cache [%s]", cacheInfo.name);
+                connection = null;
+            }
+        });
+    }
+
+    private void onInvalidation(String message) {
+        LOGGER.tracef("Invalidation [%s] received for cache [%s]", message, cacheInfo.name);
+        // The local cache operations are synchronous, they must not be awaited from an event loop thread
+        Uni<Void> invalidation = keyPattern.equals(message) ? localCache.invalidateAll() : localCache.invalidate(message);
+        invalidation.subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+            }
+        });
+    }
+
+    private Uni<Object> remoteGet(String redisKey) {
+        return connection().chain(new Supplier<Uni<? extends byte[]>>() {
+            @Override
+            public Uni<? extends byte[]> get() {
+                return values.get(redisKey);
+            }
+        }).map(new Function<byte[], Object>() {
+            @Override
+            public Object apply(byte[] bytes) {
+                return bytes == null ? MISS : decode(bytes);
+            }
+        }).onFailure().recoverWithItem(new Function<Throwable, Object>() {
+            @Override
+            public Object apply(Throwable t) {
+                LOGGER.warnf(t, "Unable to read key [%s] of cache [%s] from Redis, the value is computed", redisKey,
+                        cacheInfo.name);
+                return MISS;
+            }
+        });
+    }
+
+    private Uni<Map<String, Object>> remoteGetAll(Set<String> redisKeys) {
+        return connection().chain(new Supplier<Uni<? extends Map<String, byte[]>>>() {
+            @Override
+            public Uni<? extends Map<String, byte[]>> get() {
+                return values.mget(redisKeys.toArray(new String[0]));
+            }
+        }).map(new Function<Map<String, byte[]>, Map<String, Object>>() {
+            @Override
+            public Map<String, Object> apply(Map<String, byte[]> remoteValues) {
+                Map<String, Object> result = new LinkedHashMap<>();
+                for (Map.Entry<String, byte[]> remoteValue : remoteValues.entrySet()) {
+                    if (remoteValue.getValue() != null) {
+                        result.put(remoteValue.getKey(), decode(remoteValue.getValue()));
+                    }
+                }
+                return result;
+            }
+        }).onFailure().recoverWithItem(new Function<Throwable, Map<String, Object>>() {
+            @Override
+            public Map<String, Object> apply(Throwable t) {
+                LOGGER.warnf(t, "Unable to read %s keys of cache [%s] from Redis, the values are computed", redisKeys.size(),
+                        cacheInfo.name);
+                return Map.of();
+            }
+        });
+    }
+
+    private Uni<Void> remoteSet(String redisKey, Object value) {
+        return connection().chain(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                byte[] bytes = encode(value);
+                return setArgs == null ? values.set(redisKey, bytes) : values.set(redisKey, bytes, setArgs);
+            }
+        }).onFailure().recoverWithItem(new Function<Throwable, Void>() {
+            @Override
+            public Void apply(Throwable t) {
+                // The value is still cached locally
+                LOGGER.warnf(t, "Unable to write key [%s] of cache [%s] to Redis", redisKey, cacheInfo.name);
+                return null;
+            }
+        });
+    }
+
+    private byte[] encode(Object value) {
+        if (value == null) {
+            return new byte[] { NULL_TAG };
+        }
+        byte[] encoded = codec.encode(value);
+        byte[] bytes = new byte[encoded.length + 1];
+        bytes[0] = VALUE_TAG;
+        System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+        return bytes;
+    }
+
+    private Object decode(byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new CacheException("Unexpected empty value in Redis for cache [" + cacheInfo.name + "]");
+        }
+        if (bytes[0] == NULL_TAG) {
+            return null;
+        }
+        byte[] encoded = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 1, encoded, 0, encoded.length);
+        return codec.decode(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
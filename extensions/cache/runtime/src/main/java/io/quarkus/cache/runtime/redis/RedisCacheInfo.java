@@ -0,0 +1,48 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    /**
+     * The prefix of the Redis keys, a Redis key is the prefix followed by the string representation of the cache key.
+     */
+    public String keyPrefix;
+
+    /**
+     * The Redis channel on which the invalidations are published.
+     */
+    public String invalidationChannel;
+
+    public Duration expireAfterWrite;
+
+    public Long localMaximumSize;
+
+    public Duration localExpireAfterWrite;
+
+    /**
+     * The class name of the {@link io.quarkus.cache.CacheValueCodec}, never {@code null}. The values read from Redis are
+     * written by other processes, so they are not deserialized with the Java serialization.
+     */
+    public String codec;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
@@ -8,6 +8,7 @@
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextStorage;
 import io.opentelemetry.context.Scope;
+import io.quarkus.vertx.core.runtime.context.DuplicatedContextSlots;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.core.Vertx;
 
@@ -21,7 +22,7 @@ public enum QuarkusContextStorage implements ContextStorage {
     INSTANCE;
 
     private static final Logger log = Logger.getLogger(QuarkusContextStorage.class);
-    private static final String OTEL_CONTEXT = QuarkusContextStorage.class.getName() + ".otelContext";
+    private static final int OTEL_CONTEXT = DuplicatedContextSlots.OPENTELEMETRY_CONTEXT;
 
     private static final ContextStorage FALLBACK_CONTEXT_STORAGE = MDCEnabledContextStorage.INSTANCE;
     static Vertx vertx;
@@ -64,7 +65,7 @@ public Scope attach(io.vertx.core.Context vertxContext, Context toAttach) {
             return Scope.noop();
         }
 
-        vertxContext.putLocal(OTEL_CONTEXT, toAttach);
+        DuplicatedContextSlots.put(vertxContext, OTEL_CONTEXT, toAttach);
         OpenTelemetryUtil.setMDCData(toAttach, vertxContext);
 
         return new Scope() {
@@ -76,10 +77,10 @@ public void close() {
                 }
 
                 if (beforeAttach == null) {
-                    vertxContext.removeLocal(OTEL_CONTEXT);
+                    DuplicatedContextSlots.put(vertxContext, OTEL_CONTEXT, null);
                     OpenTelemetryUtil.clearMDCData(vertxContext);
                 } else {
-                    vertxContext.putLocal(OTEL_CONTEXT, beforeAttach);
+                    DuplicatedContextSlots.put(vertxContext, OTEL_CONTEXT, beforeAttach);
                     OpenTelemetryUtil.setMDCData(beforeAttach, vertxContext);
                 }
             }
@@ -96,7 +97,7 @@ public void close() {
     public Context current() {
         io.vertx.core.Context current = getVertxContext();
         if (current != null) {
-            return current.getLocal(OTEL_CONTEXT);
+            return DuplicatedContextSlots.get(current, OTEL_CONTEXT);
         } else {
             return FALLBACK_CONTEXT_STORAGE.current();
         }
@@ -109,7 +110,9 @@ public Context current() {
      * @return the OpenTelemetry Context if exists in the Vert.x Context or null.
      */
     public static Context getContext(io.vertx.core.Context vertxContext) {
-        return vertxContext != null && isDuplicatedContext(vertxContext) ? vertxContext.getLocal(OTEL_CONTEXT) : null;
+        return vertxContext != null && isDuplicatedContext(vertxContext)
+                ? DuplicatedContextSlots.get(vertxContext, OTEL_CONTEXT)
+                : null;
     }
 
     /**
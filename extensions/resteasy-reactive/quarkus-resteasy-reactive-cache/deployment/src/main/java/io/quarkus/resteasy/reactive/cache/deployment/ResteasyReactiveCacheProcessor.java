@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.reactive.cache.deployment;
+
+import org.jboss.jandex.AnnotationInstance;
+
+import io.quarkus.cache.deployment.AdditionalCacheNameBuildItem;
+import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
+
+final class ResteasyReactiveCacheProcessor {
+
+    @BuildStep
+    void feature(BuildProducer<FeatureBuildItem> feature) {
+        feature.produce(new FeatureBuildItem(Feature.RESTEASY_REACTIVE_CACHE));
+    }
+
+    @BuildStep
+    MethodScannerBuildItem serverCacheSupport() {
+        return new MethodScannerBuildItem(new ServerCacheMethodScanner());
+    }
+
+    @BuildStep
+    void cacheNames(CombinedIndexBuildItem index, BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        // the caches of the responses are not declared by the cache annotations, so they need to be created explicitly
+        for (AnnotationInstance serverCache : index.getIndex().getAnnotations(ServerCacheMethodScanner.SERVER_CACHE)) {
+            cacheNames.produce(new AdditionalCacheNameBuildItem(ServerCacheMethodScanner.getCacheName(serverCache)));
+        }
+    }
+}
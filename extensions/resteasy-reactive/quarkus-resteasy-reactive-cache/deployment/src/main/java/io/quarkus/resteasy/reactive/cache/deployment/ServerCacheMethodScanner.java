@@ -0,0 +1,74 @@
+package io.quarkus.resteasy.reactive.cache.deployment;
+
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.GET;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.MULTI;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.PUBLISHER;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+
+import io.quarkus.resteasy.reactive.cache.ServerCache;
+import io.quarkus.resteasy.reactive.cache.runtime.ServerCacheHandler;
+import io.quarkus.resteasy.reactive.cache.runtime.ServerCacheStoreHandler;
+
+public class ServerCacheMethodScanner implements MethodScanner {
+
+    static final DotName SERVER_CACHE = DotName.createSimple(ServerCache.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance serverCache = annotationStore.getAnnotation(method, SERVER_CACHE);
+        boolean methodLevel = serverCache != null;
+        if (serverCache == null) {
+            serverCache = annotationStore.getAnnotation(method.declaringClass(), SERVER_CACHE);
+            if ((serverCache == null) && !actualEndpointClass.equals(method.declaringClass())) {
+                serverCache = annotationStore.getAnnotation(actualEndpointClass, SERVER_CACHE);
+            }
+            if (serverCache == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        DotName returnType = method.returnType().name();
+        boolean streaming = returnType.equals(MULTI) || returnType.equals(PUBLISHER);
+        if (streaming || annotationStore.getAnnotation(method, GET) == null) {
+            if (methodLevel) {
+                throw new IllegalStateException("'@ServerCache' can only be used on GET methods that do not stream their "
+                        + "response. Offending method is '" + method.name() + "' of class '" + method.declaringClass().name()
+                        + "'");
+            }
+            // class level annotations only apply to the methods that can be cached
+            return Collections.emptyList();
+        }
+
+        ServerCacheHandler handler = new ServerCacheHandler();
+        handler.setCacheName(getCacheName(serverCache));
+        AnnotationValue queryParams = serverCache.value("queryParams");
+        handler.setQueryParams(queryParams == null ? new String[] { ServerCache.ALL_QUERY_PARAMS }
+                : queryParams.asStringArray());
+        AnnotationValue varyHeaders = serverCache.value("varyHeaders");
+        handler.setVaryHeaders(varyHeaders == null ? new String[0] : varyHeaders.asStringArray());
+        return List.of(new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE),
+                new FixedHandlerChainCustomizer(new ServerCacheStoreHandler(),
+                        HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+    }
+
+    static String getCacheName(AnnotationInstance serverCache) {
+        AnnotationValue cacheName = serverCache.value("cacheName");
+        return cacheName == null ? ServerCache.DEFAULT_CACHE_NAME : cacheName.asString();
+    }
+}
@@ -0,0 +1,230 @@
+package io.quarkus.resteasy.reactive.cache.deployment;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.reactive.cache.ServerCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ServerCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedResource.class, AddingResponseFilter.class));
+
+    @Test
+    public void testResponseIsCached() {
+        String etag = when().get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", notNullValue())
+                .header("Vary", equalTo("Accept"))
+                .extract().header("ETag");
+
+        when().get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", equalTo(etag));
+
+        // a different query string is another entry
+        when().get("/cached/hello?name=bar")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello bar 2"));
+
+        given().header("If-None-Match", etag)
+                .when().get("/cached/hello?name=foo")
+                .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag))
+                .body(emptyString());
+    }
+
+    @Test
+    public void testResponseFiltersRunOnce() {
+        when().get("/cached/filtered")
+                .then()
+                .statusCode(200)
+                .body(equalTo("filtered 1"))
+                .header("X-Filtered", equalTo("true"));
+
+        // the cached response does not hold the header added by the filter, which adds it again
+        List<String> values = when().get("/cached/filtered")
+                .then()
+                .statusCode(200)
+                .body(equalTo("filtered 1"))
+                .extract().headers().getValues("X-Filtered");
+        assertEquals(List.of("true"), values);
+    }
+
+    @Test
+    public void testSelectedQueryParams() {
+        when().get("/cached/selected?name=foo&ignored=1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("selected foo 1"));
+
+        when().get("/cached/selected?name=foo&ignored=2")
+                .then()
+                .statusCode(200)
+                .body(equalTo("selected foo 1"));
+    }
+
+    @Test
+    public void testCredentialsArePartOfTheKey() {
+        given().header(HttpHeaders.AUTHORIZATION, "Bearer alice")
+                .when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 1"));
+        given().header(HttpHeaders.AUTHORIZATION, "Bearer bob")
+                .when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 2"));
+        given().header(HttpHeaders.AUTHORIZATION, "Bearer alice")
+                .when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 1"));
+
+        given().cookie("session", "alice")
+                .when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 3"));
+        given().cookie("session", "bob")
+                .when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 4"));
+
+        // the anonymous response is not the response of any user
+        when().get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user 5"));
+    }
+
+    @Test
+    public void testPrivateResponsesAreNotCached() {
+        when().get("/cached/private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("private 1"));
+        when().get("/cached/private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("private 2"));
+    }
+
+    @Test
+    public void testNoStoreResponsesAreNotCached() {
+        when().get("/cached/no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("no-store 1"));
+        when().get("/cached/no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("no-store 2"));
+    }
+
+    @Path("/cached")
+    public static class CachedResource {
+
+        private final AtomicInteger helloCount = new AtomicInteger();
+        private final AtomicInteger selectedCount = new AtomicInteger();
+        private final AtomicInteger userCount = new AtomicInteger();
+        private final AtomicInteger privateCount = new AtomicInteger();
+        private final AtomicInteger noStoreCount = new AtomicInteger();
+        private final AtomicInteger filteredCount = new AtomicInteger();
+
+        @GET
+        @Path("/hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache
+        public String hello(@QueryParam("name") String name) {
+            return "hello " + name + " " + helloCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("/selected")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache(cacheName = "selected", queryParams = "name")
+        public String selected(@QueryParam("name") String name) {
+            return "selected " + name + " " + selectedCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("/user")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache(cacheName = "user")
+        public String user() {
+            return "user " + userCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("/private")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache(cacheName = "private")
+        public Response privateResponse() {
+            return Response.ok("private " + privateCount.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=60, private").build();
+        }
+
+        @GET
+        @Path("/no-store")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache(cacheName = "no-store")
+        public Response noStore() {
+            return Response.ok("no-store " + noStoreCount.incrementAndGet())
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store").build();
+        }
+
+        @GET
+        @Path("/filtered")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCache(cacheName = "filtered")
+        public String filtered() {
+            return "filtered " + filteredCount.incrementAndGet();
+        }
+    }
+
+    @Provider
+    public static class AddingResponseFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+                throws IOException {
+            if (requestContext.getUriInfo().getPath().equals("/cached/filtered")) {
+                responseContext.getHeaders().add("X-Filtered", "true");
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.resteasy.reactive.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the serialized responses of a GET endpoint in a cache of the Quarkus cache extension, so that later requests
+ * for the same representation are answered without invoking the resource method.
+ * <p>
+ * Responses are keyed by the request path, the query parameters, the {@code Accept} header and the headers listed in
+ * {@link #varyHeaders()}. The {@code Authorization} and {@code Cookie} headers and the authenticated user are also part
+ * of the key, so that users never share their responses. Only successful ({@code 200}) responses that do not set
+ * cookies, and whose {@code Cache-Control} header has neither {@code private} nor {@code no-store}, are cached.
+ * Cached responses carry an {@code ETag}, and a request whose {@code If-None-Match} header matches it is answered with
+ * {@code 304 Not Modified}. Request filters, response filters and security checks still run for every request: the
+ * headers added by the response filters are not stored, since the filters add them again to the cached response.
+ * <p>
+ * The size and expiration of the cache are configured like any other cache, for example with
+ * {@code quarkus.cache.caffeine."rest-responses".expire-after-write=5M}.
+ * <p>
+ * This annotation can be used at either class or method levels. Endpoints that stream their response, such as
+ * endpoints returning {@code Multi} or producing server-sent events, cannot be cached.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface ServerCache {
+
+    /**
+     * The name of the cache used when {@link #cacheName()} is not set.
+     */
+    String DEFAULT_CACHE_NAME = "rest-responses";
+
+    /**
+     * Value of {@link #queryParams()} that makes the whole query string part of the key.
+     */
+    String ALL_QUERY_PARAMS = "*";
+
+    /**
+     * @return the name of the cache that holds the responses
+     */
+    String cacheName() default DEFAULT_CACHE_NAME;
+
+    /**
+     * @return the names of the query parameters that select the response, or {@link #ALL_QUERY_PARAMS} to use the
+     *         whole query string. The other query parameters are ignored.
+     */
+    String[] queryParams() default ALL_QUERY_PARAMS;
+
+    /**
+     * @return the names of the request headers, besides {@code Accept}, that select the response. They are also listed
+     *         in the {@code Vary} header of the response.
+     */
+    String[] varyHeaders() default {};
+}
@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.reactive.cache.runtime;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response stored in the cache: its serialized body and the headers needed to send it again.
+ */
+final class CachedResponse {
+
+    final byte[] body;
+    final String etag;
+    final Map<String, List<String>> headers;
+
+    CachedResponse(byte[] body, String etag, Map<String, List<String>> headers) {
+        this.body = body;
+        this.etag = etag;
+        this.headers = headers;
+    }
+}
@@ -0,0 +1,134 @@
+package io.quarkus.resteasy.reactive.cache.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+
+/**
+ * Buffers the body of a response, then sends it with an {@code ETag} and stores it in the cache once the writer closes
+ * the stream.
+ */
+final class CachingOutputStream extends OutputStream {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final ResteasyReactiveRequestContext context;
+    private final ServerCacheHandler.PendingResponse pending;
+    private final Map<String, List<String>> cachedHeaders;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private boolean closed;
+
+    /**
+     * @param cachedHeaders the headers of the response before the response filters ran, since the filters run again
+     *        when the cached response is sent
+     */
+    CachingOutputStream(ResteasyReactiveRequestContext context, ServerCacheHandler.PendingResponse pending,
+            Map<String, List<String>> cachedHeaders) {
+        this.context = context;
+        this.pending = pending;
+        this.cachedHeaders = cachedHeaders;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        buffer.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        buffer.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (context.serverResponse().headWritten()) {
+            // the response was sent without this stream, for example by an exception mapper
+            return;
+        }
+        byte[] body = buffer.toByteArray();
+        MultivaluedMap<String, Object> headers = context.getResponse().get().getHeaders();
+        Object existingEtag = headers.getFirst(HttpHeaders.ETAG);
+        String etag;
+        if (existingEtag == null) {
+            etag = createEtag(body);
+            // the headers are only encoded once the response is committed, by the first write
+            headers.putSingle(HttpHeaders.ETAG, etag);
+            cachedHeaders.put(HttpHeaders.ETAG, List.of(etag));
+        } else {
+            // a response filter may have set it, and then sets it again when the cached response is sent
+            etag = HeaderUtil.headerToString(existingEtag);
+        }
+        if (!containsIgnoreCase(cachedHeaders, HttpHeaders.CONTENT_TYPE)) {
+            EncodedMediaType contentType = context.getResponseContentType();
+            if (contentType != null) {
+                cachedHeaders.put(HttpHeaders.CONTENT_TYPE, List.of(contentType.toString()));
+            }
+        }
+        // the response filters may have changed the headers since the response was marked
+        boolean cacheable = ServerCacheStoreHandler.isStorable(headers);
+        try (OutputStream out = context.serverResponse().createResponseOutputStream()) {
+            out.write(body);
+        }
+        if (cacheable) {
+            pending.store(new CachedResponse(body, etag, cachedHeaders));
+        }
+    }
+
+    /**
+     * Returns a copy of the headers that can be sent again, as strings.
+     */
+    static Map<String, List<String>> copyHeaders(MultivaluedMap<String, Object> headers) {
+        Map<String, List<String>> result = new HashMap<>();
+        for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+            String name = header.getKey();
+            if (name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH) || name.equalsIgnoreCase(HttpHeaders.DATE)
+                    || name.equalsIgnoreCase("Transfer-Encoding")) {
+                continue;
+            }
+            List<String> values = new ArrayList<>(header.getValue().size());
+            for (Object value : header.getValue()) {
+                values.add(HeaderUtil.headerToString(value));
+            }
+            result.put(name, values);
+        }
+        return result;
+    }
+
+    private static boolean containsIgnoreCase(Map<String, List<String>> headers, String name) {
+        for (String key : headers.keySet()) {
+            if (key.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String createEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES))
+                    + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
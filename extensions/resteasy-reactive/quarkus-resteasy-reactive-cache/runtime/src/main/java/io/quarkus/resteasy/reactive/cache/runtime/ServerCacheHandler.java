@@ -0,0 +1,191 @@
+package io.quarkus.resteasy.reactive.cache.runtime;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.resteasy.reactive.cache.ServerCache;
+
+/**
+ * Answers a request from the cache before the resource method is invoked, or marks the request so that
+ * {@link ServerCacheStoreHandler} stores its response.
+ */
+public class ServerCacheHandler implements ServerRestHandler {
+
+    static final String PENDING_PROPERTY = ServerCacheHandler.class.getName() + ".pending";
+
+    // make mutable to allow for bytecode serialization
+    private String cacheName;
+    private String[] queryParams;
+    private String[] varyHeaders;
+
+    private volatile CaffeineCache cache;
+    private volatile boolean cacheResolved;
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String[] getQueryParams() {
+        return queryParams;
+    }
+
+    public void setQueryParams(String[] queryParams) {
+        this.queryParams = queryParams;
+    }
+
+    public String[] getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public void setVaryHeaders(String[] varyHeaders) {
+        this.varyHeaders = varyHeaders;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        CaffeineCache cache = getCache();
+        if (cache == null) {
+            return;
+        }
+        CompositeCacheKey key = createKey(requestContext);
+        CompletableFuture<CachedResponse> future = cache.getIfPresent(key);
+        CachedResponse cached = future == null ? null : future.getNow(null);
+        if (cached == null) {
+            requestContext.setProperty(PENDING_PROPERTY, new PendingResponse(cache, key, getVaryHeaderValue()));
+            return;
+        }
+        Response.ResponseBuilder builder;
+        if (isNotModified(requestContext.serverRequest(), cached.etag)) {
+            builder = Response.notModified();
+            builder.header(HttpHeaders.ETAG, cached.etag);
+            copyHeader(cached, builder, HttpHeaders.CACHE_CONTROL);
+            copyHeader(cached, builder, HttpHeaders.VARY);
+            copyHeader(cached, builder, HttpHeaders.EXPIRES);
+        } else {
+            builder = Response.ok(cached.body);
+            for (Map.Entry<String, List<String>> header : cached.headers.entrySet()) {
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+        }
+        // skip the resource method, but still run the response filters: the cached headers were copied before they
+        // ran, so they add their headers once
+        requestContext.setResult(builder.build());
+        requestContext.setAbortHandlerChainStarted(true);
+        requestContext.restart(requestContext.getAbortHandlerChain(), true);
+    }
+
+    private CaffeineCache getCache() {
+        if (!cacheResolved) {
+            // racing threads resolve the same cache, so there is no need to synchronize
+            Cache found = Arc.container().instance(CacheManager.class).get().getCache(cacheName).orElse(null);
+            // the cache is not a Caffeine cache when caching is disabled
+            cache = found instanceof CaffeineCache ? (CaffeineCache) found : null;
+            cacheResolved = true;
+        }
+        return cache;
+    }
+
+    private CompositeCacheKey createKey(ResteasyReactiveRequestContext requestContext) {
+        ServerHttpRequest request = requestContext.serverRequest();
+        Object[] elements = new Object[5 + queryParams.length + varyHeaders.length];
+        int i = 0;
+        elements[i++] = requestContext.getPath();
+        elements[i++] = request.getAllRequestHeaders(HttpHeaders.ACCEPT);
+        // the credentials and the user are part of the key, so that a response is never served to another user
+        elements[i++] = request.getAllRequestHeaders(HttpHeaders.AUTHORIZATION);
+        elements[i++] = request.getAllRequestHeaders(HttpHeaders.COOKIE);
+        Principal principal = requestContext.getSecurityContext().getUserPrincipal();
+        elements[i++] = principal == null ? null : principal.getName();
+        for (String queryParam : queryParams) {
+            if (queryParam.equals(ServerCache.ALL_QUERY_PARAMS)) {
+                elements[i++] = request.query();
+            } else {
+                elements[i++] = request.getAllQueryParams(queryParam);
+            }
+        }
+        for (String varyHeader : varyHeaders) {
+            elements[i++] = request.getAllRequestHeaders(varyHeader);
+        }
+        return new CompositeCacheKey(elements);
+    }
+
+    private String getVaryHeaderValue() {
+        if (varyHeaders.length == 0) {
+            return HttpHeaders.ACCEPT;
+        }
+        return HttpHeaders.ACCEPT + ", " + String.join(", ", varyHeaders);
+    }
+
+    private static boolean isNotModified(ServerHttpRequest request, String etag) {
+        String ifNoneMatch = request.getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match uses the weak comparison
+        String opaqueTag = opaqueTag(etag);
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static void copyHeader(CachedResponse cached, Response.ResponseBuilder builder, String name) {
+        List<String> values = cached.headers.get(name);
+        if (values != null) {
+            for (String value : values) {
+                builder.header(name, value);
+            }
+        }
+    }
+
+    /**
+     * A request whose response should be stored in the cache.
+     */
+    static final class PendingResponse {
+
+        final CaffeineCache cache;
+        final CompositeCacheKey key;
+        final String vary;
+
+        PendingResponse(CaffeineCache cache, CompositeCacheKey key, String vary) {
+            this.cache = cache;
+            this.key = key;
+            this.vary = vary;
+        }
+
+        void store(CachedResponse response) {
+            cache.put(key, CompletableFuture.completedFuture(response));
+        }
+    }
+}
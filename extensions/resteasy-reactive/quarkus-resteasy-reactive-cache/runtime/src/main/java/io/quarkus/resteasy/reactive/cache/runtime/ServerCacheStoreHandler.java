@@ -0,0 +1,61 @@
+package io.quarkus.resteasy.reactive.cache.runtime;
+
+import java.util.List;
+import java.util.Locale;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Captures the serialized body of a response that was not found in the cache, so that it is stored once it has been
+ * written.
+ */
+public class ServerCacheStoreHandler implements ServerRestHandler {
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        ServerCacheHandler.PendingResponse pending = (ServerCacheHandler.PendingResponse) requestContext
+                .getProperty(ServerCacheHandler.PENDING_PROPERTY);
+        if (pending == null || requestContext.getResponseEntity() == null || requestContext.getOutputStream() != null) {
+            return;
+        }
+        Response response = requestContext.getResponse().get();
+        if (response.getStatus() != Response.Status.OK.getStatusCode() || !isStorable(response.getHeaders())) {
+            return;
+        }
+        response.getHeaders().putSingle(HttpHeaders.VARY, pending.vary);
+        // the writers write to this stream instead of the response, so the body is buffered until it is complete.
+        // The headers are copied now, as the response filters have not run yet and run again for cached responses
+        requestContext.setOutputStream(new CachingOutputStream(requestContext, pending,
+                CachingOutputStream.copyHeaders(response.getHeaders())));
+    }
+
+    /**
+     * Returns false if the response sets cookies, or if its {@code Cache-Control} header forbids shared caches from
+     * storing it.
+     */
+    static boolean isStorable(MultivaluedMap<String, Object> headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        List<Object> cacheControls = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControls != null) {
+            for (Object cacheControl : cacheControls) {
+                for (String directive : HeaderUtil.headerToString(cacheControl).split(",")) {
+                    // the private directive may list header names, as in private="Set-Cookie"
+                    int end = directive.indexOf('=');
+                    String name = (end < 0 ? directive : directive.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+                    if (name.equals("private") || name.equals("no-store")) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
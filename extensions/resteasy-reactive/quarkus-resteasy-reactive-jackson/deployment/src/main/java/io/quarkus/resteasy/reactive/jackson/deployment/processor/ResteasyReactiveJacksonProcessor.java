@@ -3,6 +3,7 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -55,6 +56,7 @@
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMultiMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonObjectMessageBodyReader;
@@ -65,6 +67,7 @@
 import io.quarkus.resteasy.reactive.spi.ExceptionMapperBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyReaderBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
+import io.smallrye.mutiny.Multi;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -115,6 +118,7 @@ AdditionalBeanBuildItem beans() {
         // make these beans to they can get instantiated with the Quarkus CDI configured ObjectMapper object
         return AdditionalBeanBuildItem.builder()
                 .addBeanClass(ServerJacksonMessageBodyReader.class.getName())
+                .addBeanClass(ServerJacksonMultiMessageBodyReader.class.getName())
                 .addBeanClass(BasicServerJacksonMessageBodyWriter.class)
                 // This will not be needed in most cases, but it will not be involved in serialization
                 // just because it's a bean.
@@ -138,6 +142,13 @@ void additionalProviders(ContextResolversBuildItem contextResolversBuildItem,
                                 Object.class.getName())
                                 .setMediaTypeStrings(HANDLED_MEDIA_TYPES)
                                 .setBuiltin(true).build());
+        additionalReaders
+                .produce(
+                        new MessageBodyReaderBuildItem.Builder(ServerJacksonMultiMessageBodyReader.class.getName(),
+                                Multi.class.getName())
+                                .setMediaTypeStrings(HANDLED_MEDIA_TYPES)
+                                .setBuiltin(true)
+                                .build());
         additionalReaders
                 .produce(
                         new MessageBodyReaderBuildItem.Builder(VertxJsonArrayMessageBodyReader.class.getName(),
@@ -261,6 +272,42 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    /**
+     * Collects the concrete classes returned by JSON endpoints, so the writers can resolve their serializers
+     * at startup instead of on the first request that returns them.
+     * <p>
+     * Collections and maps are not collected: the writers look up the runtime class of the value, which is the
+     * implementation class ({@code ArrayList}, {@code HashMap}...) and not the declared element type.
+     */
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void precomputeWriterTypes(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        IndexView indexView = index.getIndexView();
+        Set<String> types = new HashSet<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
+                continue;
+            }
+            Type effectiveReturnType = getEffectiveReturnType(entry.getMethodInfo().returnType(), false);
+            if ((effectiveReturnType == null) || (effectiveReturnType.kind() != Type.Kind.CLASS)) {
+                continue;
+            }
+            ClassInfo classInfo = indexView.getClassByName(effectiveReturnType.name());
+            if ((classInfo == null) || classInfo.name().equals(ResteasyReactiveDotNames.OBJECT)
+                    || Modifier.isInterface(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())) {
+                // the writers only use the precomputed serializer when the runtime class is an exact match
+                continue;
+            }
+            types.add(classInfo.name().toString());
+        }
+        if (!types.isEmpty()) {
+            recorder.recordPrecomputedWriterTypes(types);
+            recorder.configureShutdown(shutdown);
+        }
+    }
+
     @BuildStep
     public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem index,
@@ -278,43 +325,14 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
                 }
             }
 
-            ResourceMethod resourceInfo = entry.getResourceMethod();
-            boolean isJsonResponse = false;
-            if (resourceInfo.getProduces() != null) {
-                for (String produces : resourceInfo.getProduces()) {
-                    if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
-                        isJsonResponse = true;
-                        break;
-                    }
-                }
-            }
-            if (!isJsonResponse) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
                 continue;
             }
 
-            Type returnType = methodInfo.returnType();
-            if (returnType.kind() == Type.Kind.VOID) {
+            Type effectiveReturnType = getEffectiveReturnType(methodInfo.returnType(), true);
+            if (effectiveReturnType == null) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
-                    continue;
-                }
-
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
-            }
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
             if ((effectiveReturnClassInfo == null) || effectiveReturnClassInfo.name().equals(ResteasyReactiveDotNames.OBJECT)) {
@@ -353,6 +371,57 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
         }
     }
 
+    private boolean isJsonResponse(ResourceMethod resourceInfo) {
+        if (resourceInfo.getProduces() != null) {
+            for (String produces : resourceInfo.getProduces()) {
+                if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unwraps the async types, and the collection types if {@code unwrapCollections} is {@code true}, that can be
+     * returned from an endpoint to get to the type that is actually serialized. Returns {@code null} if there is
+     * nothing to serialize.
+     */
+    private Type getEffectiveReturnType(Type returnType, boolean unwrapCollections) {
+        if (returnType.kind() == Type.Kind.VOID) {
+            return null;
+        }
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!unwrapCollections) {
+            return effectiveReturnType;
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
+        } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+        }
+        return effectiveReturnType;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
@@ -0,0 +1,91 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class PrecomputedWriterTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class, Tag.class, ItemResource.class));
+
+    @Test
+    public void testPrecomputedWriterIsUsedForReturnedClass() {
+        RestAssured.get("/items/one")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("one"));
+        RestAssured.get("/items/uni")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("uni"));
+        RestAssured.get("/items/tags")
+                .then()
+                .statusCode(200)
+                .body("size()", Matchers.equalTo(1));
+
+        BasicServerJacksonMessageBodyWriter writer = Arc.container().instance(BasicServerJacksonMessageBodyWriter.class)
+                .get();
+        assertTrue(writer.hasPrecomputedWriter(Item.class));
+        // The runtime class of a collection is its implementation, so its element type is not precomputed
+        assertFalse(writer.hasPrecomputedWriter(Tag.class));
+        assertFalse(writer.hasPrecomputedWriter(ArrayList.class));
+    }
+
+    public static class Tag {
+
+        public String value = "tag";
+    }
+
+    @Path("/items")
+    public static class ItemResource {
+
+        @GET
+        @Path("/one")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Item one() {
+            return item("one");
+        }
+
+        @GET
+        @Path("/uni")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Uni<Item> uni() {
+            return Uni.createFrom().item(item("uni"));
+        }
+
+        @GET
+        @Path("/tags")
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<Tag> tags() {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new Tag());
+            return tags;
+        }
+
+        private static Item item(String name) {
+            Item item = new Item();
+            item.setName(name);
+            return item;
+        }
+    }
+}
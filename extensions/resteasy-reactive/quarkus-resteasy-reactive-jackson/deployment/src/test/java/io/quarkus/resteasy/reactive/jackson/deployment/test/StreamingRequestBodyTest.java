@@ -0,0 +1,135 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class StreamingRequestBodyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(IngestResource.class, Item.class));
+
+    @Test
+    public void testArray() {
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body("[{\"name\": \"a\", \"email\": \"a@x\"}, {\"name\": \"b\", \"nested\": {\"x\": [1, 2]}}, null, "
+                        + "{\"name\": \"c\"}]")
+                .post("/ingest")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a,b,c"));
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body("[]")
+                .post("/ingest")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(""));
+    }
+
+    @Test
+    public void testLargeArray() {
+        // large enough to arrive in many chunks
+        String body = IntStream.range(0, 20_000)
+                .mapToObj(i -> "{\"name\": \"" + i + "\", \"email\": \"user" + i + "@example.com\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .post("/ingest/count")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("20000"));
+    }
+
+    @Test
+    public void testNdjson() {
+        RestAssured.with().contentType(RestMediaType.APPLICATION_NDJSON)
+                .body("{\"name\": \"a\"}\n{\"name\": \"b\"}\n")
+                .post("/ingest")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a,b"));
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body("[{\"name\": \"a\"}, {\"name\": \"b\"}]")
+                .post("/ingest/blocking")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a,b"));
+    }
+
+    @Test
+    public void testNullElementsAreSkipped() {
+        String body = "[null, {\"name\": \"a\"}, null, null, {\"name\": \"b\"}, null]";
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .post("/ingest")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a,b"));
+        RestAssured.with().contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .post("/ingest/blocking")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a,b"));
+        RestAssured.with().contentType(RestMediaType.APPLICATION_NDJSON)
+                .body("null\n{\"name\": \"a\"}\nnull\n")
+                .post("/ingest")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("a"));
+    }
+
+    @Path("/ingest")
+    public static class IngestResource {
+
+        @POST
+        @Consumes({ MediaType.APPLICATION_JSON, RestMediaType.APPLICATION_NDJSON })
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> ingest(Multi<Item> items) {
+            return items.map(Item::getName).collect().asList().map(names -> String.join(",", names));
+        }
+
+        @POST
+        @Path("count")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<Long> count(Multi<Item> items) {
+            return items.collect().with(Collectors.counting());
+        }
+
+        @POST
+        @Path("blocking")
+        @Blocking
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String blocking(Multi<Item> items) {
+            List<String> names = items.map(Item::getName).collect().asList().await().indefinitely();
+            return String.join(",", names);
+        }
+    }
+}
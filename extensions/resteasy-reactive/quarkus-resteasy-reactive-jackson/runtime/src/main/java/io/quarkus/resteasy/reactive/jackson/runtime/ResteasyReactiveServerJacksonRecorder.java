@@ -1,8 +1,11 @@
 package io.quarkus.resteasy.reactive.jackson.runtime;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +19,7 @@ public class ResteasyReactiveServerJacksonRecorder {
 
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
+    private static final Set<Class<?>> precomputedWriterTypes = new HashSet<>();
 
     public void recordJsonView(String methodId, String className) {
         jsonViewMap.put(methodId, loadClass(className));
@@ -25,12 +29,19 @@ public void recordCustomSerialization(String methodId, String className) {
         customSerializationMap.put(methodId, loadClass(className));
     }
 
+    public void recordPrecomputedWriterTypes(Set<String> classNames) {
+        for (String className : classNames) {
+            precomputedWriterTypes.add(loadClass(className));
+        }
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
+                precomputedWriterTypes.clear();
             }
         });
     }
@@ -44,6 +55,13 @@ public static Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>> cust
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>>) customSerializationMap.get(methodId);
     }
 
+    /**
+     * The classes returned by JSON endpoints for which the writers should resolve a serializer up front
+     */
+    public static Set<Class<?>> precomputedWriterTypes() {
+        return Collections.unmodifiableSet(precomputedWriterTypes);
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
 
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createDefaultWriter;
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createTypedWriters;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.doLegacyWrite;
 
 import java.io.IOException;
@@ -8,6 +9,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.ws.rs.WebApplicationException;
@@ -20,13 +22,24 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
 public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
 
     private final ObjectWriter defaultWriter;
+    private final Map<Class<?>, ObjectWriter> typedWriters;
 
     @Inject
     public BasicServerJacksonMessageBodyWriter(ObjectMapper mapper) {
         this.defaultWriter = createDefaultWriter(mapper);
+        this.typedWriters = createTypedWriters(defaultWriter, ResteasyReactiveServerJacksonRecorder.precomputedWriterTypes());
+    }
+
+    /**
+     * @return {@code true} if values of exactly this class are written with a serializer resolved at startup
+     */
+    public boolean hasPrecomputedWriter(Class<?> type) {
+        return typedWriters.containsKey(type);
     }
 
     @Override
@@ -36,7 +49,8 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
-            defaultWriter.writeValue(stream, o);
+            ObjectWriter typedWriter = typedWriters.get(o.getClass());
+            (typedWriter != null ? typedWriter : defaultWriter).writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
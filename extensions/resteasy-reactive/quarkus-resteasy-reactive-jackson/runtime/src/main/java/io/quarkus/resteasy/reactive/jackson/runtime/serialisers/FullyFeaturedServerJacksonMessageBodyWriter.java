@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
 
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createDefaultWriter;
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createTypedWriters;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.doLegacyWrite;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.setNecessaryJsonFactoryConfig;
 
@@ -9,6 +10,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
@@ -35,6 +37,7 @@ public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBo
     private final ObjectMapper originalMapper;
     private final Providers providers;
     private final ObjectWriter defaultWriter;
+    private final Map<Class<?>, ObjectWriter> typedWriters;
     private final ConcurrentMap<String, ObjectWriter> perMethodWriter = new ConcurrentHashMap<>();
     private final ConcurrentMap<ObjectMapper, ObjectWriter> contextResolverMap = new ConcurrentHashMap<>();
 
@@ -42,6 +45,7 @@ public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBo
     public FullyFeaturedServerJacksonMessageBodyWriter(ObjectMapper mapper, Providers providers) {
         this.originalMapper = mapper;
         this.defaultWriter = createDefaultWriter(mapper);
+        this.typedWriters = createTypedWriters(defaultWriter, ResteasyReactiveServerJacksonRecorder.precomputedWriterTypes());
         this.providers = providers;
     }
 
@@ -73,7 +77,8 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
                     return;
                 }
             }
-            getEffectiveWriter(effectiveMapper).writeValue(stream, o);
+            ObjectWriter typedWriter = effectiveMapper == originalMapper ? typedWriters.get(o.getClass()) : null;
+            (typedWriter != null ? typedWriter : getEffectiveWriter(effectiveMapper)).writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
@@ -0,0 +1,206 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.AbstractJsonMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerStreamingMessageBodyReader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Reads a JSON array, or a stream of JSON values, into a {@link Multi} of its elements.
+ * <p>
+ * Non-blocking endpoints are fed by the Jackson non-blocking parser as the chunks of the request body arrive, so only
+ * the elements that have not been consumed yet are kept in memory. Blocking endpoints read the elements lazily from
+ * the input stream. Both skip the {@code null} elements, which cannot be published by a {@link Multi}.
+ */
+public class ServerJacksonMultiMessageBodyReader extends AbstractJsonMessageBodyReader
+        implements ServerStreamingMessageBodyReader<Object> {
+
+    private final ObjectReader defaultReader;
+
+    @Inject
+    public ServerJacksonMultiMessageBodyReader(ObjectMapper mapper) {
+        this.defaultReader = mapper.reader();
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return Multi.class.equals(type) && isReadable(mediaType, type);
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod, MediaType mediaType) {
+        return Multi.class.equals(type) && isReadable(mediaType, type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        return readElements(genericType, entityStream);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        return readElements(genericType, context.getInputStream());
+    }
+
+    @Override
+    public Decoder createDecoder(Class<Object> type, Type genericType, MediaType mediaType) {
+        try {
+            return new JsonDecoder(getElementReader(genericType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Multi<Object> readElements(Type genericType, InputStream entityStream) {
+        ObjectReader reader = getElementReader(genericType);
+        return Multi.createFrom().iterable(new Iterable<>() {
+            @Override
+            public Iterator<Object> iterator() {
+                try {
+                    // a root level array is unwrapped by the iterator
+                    return new NonNullIterator(reader.readValues(entityStream));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private ObjectReader getElementReader(Type genericType) {
+        Type elementType = Object.class;
+        if (genericType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        return defaultReader.forType(defaultReader.getTypeFactory().constructType(elementType));
+    }
+
+    private static final class NonNullIterator implements Iterator<Object> {
+
+        private final Iterator<Object> delegate;
+        private Object next;
+
+        NonNullIterator(Iterator<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && delegate.hasNext()) {
+                next = delegate.next();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    /**
+     * Splits the tokens of the body into elements, which are only deserialized once all their tokens have arrived.
+     * The elements are the values of the array if the body is an array, or the root level values otherwise.
+     */
+    private static final class JsonDecoder implements Decoder {
+
+        private final ObjectReader reader;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private TokenBuffer element;
+        private int depth;
+        private boolean started;
+        private boolean unwrapArray;
+
+        JsonDecoder(ObjectReader reader) throws IOException {
+            this.reader = reader;
+            this.parser = reader.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        @Override
+        public void decode(ByteBuffer data, Consumer<Object> elements) throws IOException {
+            if (data.hasArray()) {
+                // the parser is done with the array when it runs out of tokens, so there is no need for a copy
+                int offset = data.arrayOffset() + data.position();
+                feeder.feedInput(data.array(), offset, offset + data.remaining());
+            } else {
+                byte[] bytes = new byte[data.remaining()];
+                data.get(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+            }
+            readElements(elements);
+        }
+
+        @Override
+        public void end(Consumer<Object> elements) throws IOException {
+            feeder.endOfInput();
+            try {
+                readElements(elements);
+            } finally {
+                parser.close();
+            }
+        }
+
+        private void readElements(Consumer<Object> elements) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (!started) {
+                    started = true;
+                    if (token == JsonToken.START_ARRAY) {
+                        unwrapArray = true;
+                        continue;
+                    }
+                }
+                if (depth == 0) {
+                    if (unwrapArray && token == JsonToken.END_ARRAY) {
+                        continue;
+                    }
+                    element = new TokenBuffer(parser);
+                }
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (depth == 0) {
+                    Object value = reader.readValue(element.asParser());
+                    element = null;
+                    elements.accept(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.HashUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+
+/**
+ * Generates a {@link HandlerChainInvoker} for every resource method.
+ * <p>
+ * The handler chain is only assembled at runtime, so the generated code does not know which handler is at which
+ * position. What it does provide is a separate call site for every position of every resource method, and as the
+ * handler at a given position of a given resource method never changes, each of these call sites is monomorphic.
+ */
+public class QuarkusHandlerChainInvokerFactory {
+
+    /**
+     * The number of positions that get their own call site, handlers past this position are invoked from a shared
+     * call site. This is more than the length of the chain of a resource method without filters or interceptors.
+     */
+    static final int MAX_FUSED_HANDLERS = 32;
+
+    private static final MethodDescriptor HANDLE = MethodDescriptor.ofMethod(ServerRestHandler.class, "handle", void.class,
+            ResteasyReactiveRequestContext.class);
+
+    final BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer;
+    final ResteasyReactiveRecorder recorder;
+    private final Set<String> generatedClasses = new HashSet<>();
+
+    public QuarkusHandlerChainInvokerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            ResteasyReactiveRecorder recorder) {
+        this.generatedClassBuildItemBuildProducer = generatedClassBuildItemBuildProducer;
+        this.recorder = recorder;
+    }
+
+    public Supplier<HandlerChainInvoker> create(ClassInfo actualEndpointInfo, MethodInfo method) {
+        String baseName = actualEndpointInfo.name() + "$quarkusrestchain$" + method.name() + "_"
+                + HashUtil.sha1(method.declaringClass().name().toString() + method);
+        if (generatedClasses.add(baseName)) {
+            try (ClassCreator classCreator = new ClassCreator(
+                    new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true), baseName, null,
+                    Object.class.getName(), HandlerChainInvoker.class.getName())) {
+                MethodCreator mc = classCreator.getMethodCreator("invoke", void.class, ServerRestHandler[].class, int.class,
+                        ResteasyReactiveRequestContext.class);
+                mc.addException(Exception.class);
+                ResultHandle handlers = mc.getMethodParam(0);
+                ResultHandle position = mc.getMethodParam(1);
+                ResultHandle requestContext = mc.getMethodParam(2);
+
+                BranchResult fused = mc.ifIntegerLessThan(position, mc.load(MAX_FUSED_HANDLERS));
+                invokeRange(fused.trueBranch(), handlers, position, requestContext, 0, MAX_FUSED_HANDLERS);
+                BytecodeCreator shared = fused.falseBranch();
+                shared.invokeInterfaceMethod(HANDLE, shared.readArrayValue(handlers, position), requestContext);
+                shared.returnValue(null);
+            }
+        }
+        return recorder.handlerChainInvoker(baseName);
+    }
+
+    /**
+     * Generates a binary search over the positions in {@code [from, to)}, so that the call for a position is reached
+     * with a handful of comparisons.
+     */
+    private static void invokeRange(BytecodeCreator bc, ResultHandle handlers, ResultHandle position,
+            ResultHandle requestContext, int from, int to) {
+        if (to - from == 1) {
+            bc.invokeInterfaceMethod(HANDLE, bc.readArrayValue(handlers, from), requestContext);
+            bc.returnValue(null);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        BranchResult lower = bc.ifIntegerLessThan(position, bc.load(middle));
+        invokeRange(lower.trueBranch(), handlers, position, requestContext, from, middle);
+        invokeRange(lower.falseBranch(), handlers, position, requestContext, middle, to);
+    }
+}
@@ -98,6 +98,7 @@
 import org.jboss.resteasy.reactive.server.processor.generation.exceptionmappers.ServerExceptionMapperGenerator;
 import org.jboss.resteasy.reactive.server.processor.generation.injection.TransformedFieldInjectionIndexerExtension;
 import org.jboss.resteasy.reactive.server.processor.generation.multipart.GeneratedHandlerMultipartReturnTypeIndexerExtension;
+import org.jboss.resteasy.reactive.server.processor.scanning.CoalesceRequestsMethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseHeaderMethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseStatusMethodScanner;
@@ -138,6 +139,8 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.configuration.ConfigurationError;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CompiledJavaVersionBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.deployment.util.ServiceUtil;
@@ -258,6 +261,11 @@ MethodScannerBuildItem responseHeaderSupport() {
         return new MethodScannerBuildItem(new ResponseHeaderMethodScanner());
     }
 
+    @BuildStep
+    MethodScannerBuildItem coalesceRequestsSupport() {
+        return new MethodScannerBuildItem(new CoalesceRequestsMethodScanner());
+    }
+
     @BuildStep
     void vertxIntegration(BuildProducer<MessageBodyWriterBuildItem> writerBuildItemBuildProducer) {
         writerBuildItemBuildProducer.produce(new MessageBodyWriterBuildItem(ServerVertxBufferMessageBodyWriter.class.getName(),
@@ -394,6 +402,7 @@ public void setupEndpoints(ApplicationIndexBuildItem applicationIndexBuildItem,
             List<ContextTypeBuildItem> contextTypeBuildItems,
             CompiledJavaVersionBuildItem compiledJavaVersionBuildItem,
             ResourceInterceptorsBuildItem resourceInterceptorsBuildItem,
+            ResteasyReactiveServerConfig serverConfig,
             Capabilities capabilities)
             throws NoSuchMethodException {
 
@@ -434,6 +443,10 @@ public void setupEndpoints(ApplicationIndexBuildItem applicationIndexBuildItem,
         boolean filtersAccessResourceMethod = filtersAccessResourceMethod(
                 resourceInterceptorsBuildItem.getResourceInterceptors());
 
+        QuarkusHandlerChainInvokerFactory handlerChainInvokerFactory = serverConfig.fuseHandlerChains
+                ? new QuarkusHandlerChainInvokerFactory(generatedClassBuildItemBuildProducer, recorder)
+                : null;
+
         GeneratedClassGizmoAdaptor classOutput = new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true);
         try (ClassCreator c = new ClassCreator(classOutput,
                 QUARKUS_INIT_CLASS, null, Object.class.getName(), ResteasyReactiveInitialiser.class.getName());
@@ -500,6 +513,12 @@ public void accept(EndpointIndexer.ResourceMethodCallbackData entry) {
                                     entry.getBasicResourceClassInfo(), method,
                                     entry.getActualEndpointInfo(), entry.getResourceMethod()));
 
+                            if (handlerChainInvokerFactory != null
+                                    && entry.getResourceMethod() instanceof ServerResourceMethod) {
+                                ((ServerResourceMethod) entry.getResourceMethod()).setHandlerChainInvoker(
+                                        handlerChainInvokerFactory.create(entry.getActualEndpointInfo(), method));
+                            }
+
                             String source = ResteasyReactiveProcessor.class.getSimpleName() + " > "
                                     + method.declaringClass()
                                     + "[" + method + "]";
@@ -1110,9 +1129,13 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
         // Handler used for both the default and non-default deployment path (specified as application path or resteasyConfig.path)
         // Routes use the order VertxHttpRecorder.DEFAULT_ROUTE_ORDER + 1 to ensure the default route is called before the resteasy one
         Class<? extends Application> applicationClass = application == null ? Application.class : application.getClass();
+        org.jboss.resteasy.reactive.common.ResteasyReactiveConfig resteasyReactiveConfig = createRestReactiveConfig(config);
+        resteasyReactiveConfig.setRecycleRequestArrays(serverConfig.recycleRequestArrays);
+        resteasyReactiveConfig.setCheckRecycledRequestArrays(serverConfig.recycleRequestArrays
+                && launchModeBuildItem.getLaunchMode() != LaunchMode.NORMAL);
         DeploymentInfo deploymentInfo = new DeploymentInfo()
                 .setInterceptors(interceptors.sort())
-                .setResteasyReactiveConfig(createRestReactiveConfig(config))
+                .setResteasyReactiveConfig(resteasyReactiveConfig)
                 .setExceptionMapping(exceptionMapping)
                 .setCtxResolvers(contextResolvers)
                 .setFeatures(feats)
@@ -1168,6 +1191,17 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void registerAllocationMetrics(ResteasyReactiveRecorder recorder,
+            ResteasyReactiveServerConfig serverConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (serverConfig.allocationMetrics && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerAllocationMetrics()));
+        }
+    }
+
     @BuildStep
     @Record(value = ExecutionTime.STATIC_INIT)
     public FilterBuildItem addDefaultAuthFailureHandler(ResteasyReactiveRecorder recorder) {
@@ -17,4 +17,27 @@ public class ResteasyReactiveServerConfig {
      */
     @ConfigItem
     Optional<String> path;
+
+    /**
+     * If this is true then a class is generated for the handler chain of every resource method, which invokes each
+     * handler of the chain from its own call site. This allows the JIT to inline the handlers of hot endpoints, at the
+     * cost of an additional generated class per resource method.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean fuseHandlerChains;
+
+    /**
+     * If this is true then the arrays holding the parameters of resource methods are reused by the later requests of
+     * the event loop that allocated them, instead of being allocated for every request. In dev and test mode, reused
+     * arrays are checked for references that escaped their request.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean recycleRequestArrays;
+
+    /**
+     * If this is true and a metrics extension is present, then the bytes allocated by the threads processing requests
+     * are measured and exposed as metrics, along with the number of processed requests and recycled arrays.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean allocationMetrics;
 }
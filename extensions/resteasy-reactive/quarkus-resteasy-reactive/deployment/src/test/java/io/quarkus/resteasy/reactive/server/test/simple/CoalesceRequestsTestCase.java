@@ -0,0 +1,96 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.ContainerRequestContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.CoalesceRequests;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class CoalesceRequestsTestCase {
+
+    private static final int REQUESTS = 5;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(CoalescedResource.class, ArrivalFilter.class);
+                }
+            });
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; ++i) {
+                responses.add(executor.submit(() -> RestAssured.get("/coalesced?name=foo").then().statusCode(200)
+                        .extract().asString()));
+            }
+            // let every request reach the method before the first one completes
+            await().atMost(Duration.ofSeconds(10)).until(() -> ArrivalFilter.ARRIVED.get() == REQUESTS);
+            Thread.sleep(200);
+            CoalescedResource.GATE.complete("done");
+            for (Future<String> response : responses) {
+                assertThat(response.get()).isEqualTo("foo-1-done");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(CoalescedResource.INVOCATIONS.get()).isEqualTo(1);
+
+        // nothing is kept once the request completed
+        RestAssured.get("/coalesced?name=foo").then().body(Matchers.equalTo("foo-2-done"));
+        RestAssured.get("/coalesced?name=bar").then().body(Matchers.equalTo("bar-3-done"));
+    }
+
+    @Path("/coalesced")
+    public static class CoalescedResource {
+
+        static final CompletableFuture<String> GATE = new CompletableFuture<>();
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @GET
+        @CoalesceRequests
+        public Uni<String> get(@QueryParam("name") String name) {
+            int invocation = INVOCATIONS.incrementAndGet();
+            return Uni.createFrom().completionStage(GATE).map(s -> name + "-" + invocation + "-" + s);
+        }
+    }
+
+    public static class ArrivalFilter {
+
+        static final AtomicInteger ARRIVED = new AtomicInteger();
+
+        @ServerRequestFilter
+        public void filter(ContainerRequestContext requestContext) {
+            ARRIVED.incrementAndGet();
+        }
+    }
+}
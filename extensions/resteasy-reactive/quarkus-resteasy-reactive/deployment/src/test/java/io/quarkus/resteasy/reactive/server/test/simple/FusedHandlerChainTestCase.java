@@ -0,0 +1,167 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.Headers;
+
+/**
+ * Runs a subset of SimpleQuarkusRestTestCase with fused handler chains, including filters, suspension, exceptions,
+ * aborted requests and sub resources.
+ */
+public class FusedHandlerChainTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.resteasy-reactive.fuse-handler-chains", "true")
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(SimpleQuarkusRestResource.class, Person.class,
+                                    TestRequestFilter.class, TestRequestFilterWithHighPriority.class,
+                                    TestRequestFilterWithHighestPriority.class,
+                                    Foo.class, Bar.class,
+                                    TestFooRequestFilter.class, TestBarRequestFilter.class, TestFooBarRequestFilter.class,
+                                    TestFooResponseFilter.class, TestBarResponseFilter.class, TestFooBarResponseFilter.class,
+                                    TestResponseFilter.class, HelloService.class, TestException.class,
+                                    TestExceptionMapper.class, TestPreMatchRequestFilter.class,
+                                    FeatureMappedException.class, FeatureMappedExceptionMapper.class,
+                                    FeatureRequestFilterWithNormalPriority.class, FeatureRequestFilterWithHighestPriority.class,
+                                    FeatureResponseFilter.class, DynamicFeatureRequestFilterWithLowPriority.class,
+                                    TestFeature.class, TestDynamicFeature.class,
+                                    SubResource.class, RootAResource.class, RootBResource.class,
+                                    TestWriter.class, TestClass.class, FusedInvokerResource.class,
+                                    AbortingRequestFilter.class);
+                }
+            });
+
+    @Test
+    public void testFusedInvokerInstalled() {
+        // the generated invoker must be installed on the endpoint and run its handlers, not only give the same bodies
+        for (int i = 0; i < 2; ++i) {
+            RestAssured.get("/fused-invoker")
+                    .then().body(Matchers.equalTo("generated:true,invoked:true"));
+        }
+    }
+
+    @Test
+    public void simpleTest() {
+        // run the same requests a few times, so that the fused invokers are reused
+        for (int i = 0; i < 3; ++i) {
+            RestAssured.get("/simple")
+                    .then().body(Matchers.equalTo("GET"));
+            RestAssured.get("/simple/foo")
+                    .then().body(Matchers.equalTo("GET:foo"));
+            RestAssured.post("/simple")
+                    .then().body(Matchers.equalTo("POST"));
+            RestAssured.get("/simple/hello")
+                    .then().body(Matchers.equalTo("Hello"));
+            RestAssured.get("/missing")
+                    .then().statusCode(404);
+        }
+    }
+
+    @Test
+    public void testSubResource() {
+        RestAssured.get("/simple/sub/otherSub")
+                .then().body(Matchers.equalTo("otherSub"));
+        RestAssured.get("/simple/sub")
+                .then().body(Matchers.equalTo("sub"));
+    }
+
+    @Test
+    public void testFilters() {
+        Headers headers = RestAssured.get("/simple/fooBarFilters")
+                .then().extract().headers();
+        assertThat(headers.getValues("filter-request")).containsOnly("authentication-authorization-foo-default-bar-foobar");
+        assertThat(headers.getValues("filter-response")).containsOnly("default-foo-bar-foobar");
+    }
+
+    @Test
+    public void testAsync() {
+        RestAssured.get("/simple/async/cs/ok")
+                .then().body(Matchers.equalTo("CS-OK"));
+        RestAssured.get("/simple/async/uni/ok")
+                .then().body(Matchers.equalTo("UNI-OK"));
+        for (int i = 0; i < 2; ++i) {
+            // the failure restarts the request into the abort chain, where the exception is mapped
+            RestAssured.get("/simple/async/cs/fail")
+                    .then().body(Matchers.equalTo("OK"))
+                    .statusCode(666);
+            RestAssured.get("/simple/async/cf/fail")
+                    .then().body(Matchers.equalTo("OK"))
+                    .statusCode(666);
+        }
+        RestAssured.get("/simple/async/uni/fail")
+                .then().body(Matchers.equalTo("OK"))
+                .statusCode(666);
+    }
+
+    @Test
+    public void testFilterAbort() {
+        for (int i = 0; i < 2; ++i) {
+            RestAssured.given().header("abort", "true").get("/simple")
+                    .then().body(Matchers.equalTo("aborted"))
+                    .statusCode(403);
+            RestAssured.get("/simple")
+                    .then().body(Matchers.equalTo("GET"));
+        }
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.get("/simple/blocking")
+                .then().body(Matchers.equalTo("true"));
+    }
+
+    @Provider
+    public static class AbortingRequestFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (requestContext.getHeaderString("abort") != null) {
+                requestContext.abortWith(Response.status(403).entity("aborted").build());
+            }
+        }
+    }
+
+    @Path("/fused-invoker")
+    public static class FusedInvokerResource {
+
+        @GET
+        public String get() {
+            HandlerChainInvoker invoker = CurrentRequestManager.get().getTarget().getHandlerChainInvoker();
+            if (invoker == null) {
+                return "generated:false";
+            }
+            String invokerClass = invoker.getClass().getName();
+            boolean invoked = false;
+            for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+                if (element.getClassName().equals(invokerClass)) {
+                    invoked = true;
+                    break;
+                }
+            }
+            return "generated:" + invokerClass.contains("$quarkusrestchain$") + ",invoked:" + invoked;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.core.RequestArrayPool;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+
+public class RecycledRequestArraysTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.resteasy-reactive.recycle-request-arrays", "true")
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(RecycledResource.class);
+                }
+            });
+
+    @Test
+    public void testParametersAreNotShared() {
+        long recycledBefore = RequestArrayPool.getRecycledCount();
+        for (int i = 0; i < 20; ++i) {
+            RestAssured.get("/recycled/" + i + "?q=" + (i * 2))
+                    .then().body(Matchers.equalTo(i + "-" + (i * 2)));
+            RestAssured.get("/recycled/async/" + i)
+                    .then().body(Matchers.equalTo("async-" + i));
+            RestAssured.get("/recycled/blocking/" + i)
+                    .then().body(Matchers.equalTo("blocking-" + i));
+        }
+        RestAssured.get("/recycled/1")
+                .then().body(Matchers.equalTo("1-null"));
+        assertThat(RequestArrayPool.getRecycledCount()).isGreaterThan(recycledBefore);
+    }
+
+    @Path("/recycled")
+    public static class RecycledResource {
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") String id, @QueryParam("q") String q) {
+            return id + "-" + q;
+        }
+
+        @GET
+        @Path("async/{id}")
+        public Uni<String> async(@PathParam("id") String id) {
+            return Uni.createFrom().item(() -> "async-" + id);
+        }
+
+        @GET
+        @Blocking
+        @Path("blocking/{id}")
+        public String blocking(@PathParam("id") String id) {
+            return "blocking-" + id;
+        }
+    }
+}
@@ -17,19 +17,54 @@
 public class QuarkusResteasyReactiveRequestContext extends VertxResteasyReactiveRequestContext {
 
     final CurrentIdentityAssociation association;
+    final RequestAllocationMetrics allocationMetrics;
     boolean userSetup = false;
+    boolean completed = false;
 
     public QuarkusResteasyReactiveRequestContext(Deployment deployment,
             RoutingContext context, ThreadSetupAction requestContext, ServerRestHandler[] handlerChain,
             ServerRestHandler[] abortHandlerChain, ClassLoader devModeTccl,
             CurrentIdentityAssociation currentIdentityAssociation) {
+        this(deployment, context, requestContext, handlerChain, abortHandlerChain, devModeTccl, currentIdentityAssociation,
+                null);
+    }
+
+    public QuarkusResteasyReactiveRequestContext(Deployment deployment,
+            RoutingContext context, ThreadSetupAction requestContext, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain, ClassLoader devModeTccl,
+            CurrentIdentityAssociation currentIdentityAssociation, RequestAllocationMetrics allocationMetrics) {
         super(deployment, context, requestContext, handlerChain, abortHandlerChain, devModeTccl);
         this.association = currentIdentityAssociation;
+        this.allocationMetrics = allocationMetrics;
         if (VertxContext.isOnDuplicatedContext()) {
             VertxContextSafetyToggle.setCurrentContextSafe(true);
         }
     }
 
+    @Override
+    public void run() {
+        if (allocationMetrics == null) {
+            super.run();
+            return;
+        }
+        // the handlers of a request may run on several threads, so every run is measured on its own thread
+        long allocatedBefore = allocationMetrics.currentThreadAllocatedBytes();
+        try {
+            super.run();
+        } finally {
+            allocationMetrics.allocated(allocationMetrics.currentThreadAllocatedBytes() - allocatedBefore);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (allocationMetrics != null && !completed) {
+            completed = true;
+            allocationMetrics.requestCompleted();
+        }
+        super.close();
+    }
+
     protected void handleRequestScopeActivation() {
         super.handleRequestScopeActivation();
         if (!userSetup && association != null) {
@@ -85,6 +120,9 @@ private <E extends Throwable> RuntimeException sneakyThrow(Throwable e) throws E
      */
     @Override
     protected void invokeHandler(int pos) throws Exception {
+        if (invokeFusedHandler(pos)) {
+            return;
+        }
         var handler = handlers[pos];
         if (handler instanceof org.jboss.resteasy.reactive.server.handlers.MatrixParamHandler) {
             handler.handle(this);
@@ -0,0 +1,73 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.RequestArrayPool;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Measures the bytes allocated by the threads that process requests, while they run the handlers of a request.
+ * Dividing the allocated bytes by the number of requests gives the average allocation per request.
+ */
+public final class RequestAllocationMetrics {
+
+    private static final Logger log = Logger.getLogger(RequestAllocationMetrics.class);
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    private RequestAllocationMetrics(com.sun.management.ThreadMXBean threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the metrics, or {@code null} if the JVM cannot measure the bytes allocated by a thread
+     */
+    static RequestAllocationMetrics create() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                        .getThreadMXBean();
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return new RequestAllocationMetrics(threads);
+                }
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            log.debug("Unable to measure thread allocations", e);
+        }
+        log.warn("Allocation metrics are enabled, but the JVM does not support measuring the bytes allocated by a thread");
+        return null;
+    }
+
+    long currentThreadAllocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    void allocated(long bytes) {
+        if (bytes > 0) {
+            allocatedBytes.add(bytes);
+        }
+    }
+
+    void requestCompleted() {
+        requests.increment();
+    }
+
+    void register(MetricsFactory metricsFactory) {
+        metricsFactory.builder("rest.server.requests.allocated")
+                .description("Bytes allocated by the threads processing REST requests, while running the request handlers")
+                .unit("bytes")
+                .buildCounter(allocatedBytes::sum);
+        metricsFactory.builder("rest.server.requests.completed")
+                .description("Number of REST requests that completed processing")
+                .buildCounter(requests::sum);
+        metricsFactory.builder("rest.server.requests.arrays.recycled")
+                .description("Number of request parameter arrays that were reused instead of allocated")
+                .buildCounter(RequestArrayPool::getRecycledCount);
+    }
+}
@@ -32,6 +32,7 @@
 import org.jboss.resteasy.reactive.server.model.ContextResolvers;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvokerFactory;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.util.RuntimeResourceVisitor;
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
@@ -50,6 +51,7 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationCompletionException;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.AuthenticationRedirectException;
@@ -123,6 +125,7 @@ public Executor get() {
     };
 
     static volatile Deployment currentDeployment;
+    static volatile RequestAllocationMetrics currentAllocationMetrics;
 
     public static Deployment getCurrentDeployment() {
         return currentDeployment;
@@ -167,7 +170,8 @@ public ResteasyReactiveRequestContext createContext(Deployment deployment,
                     return new QuarkusResteasyReactiveRequestContext(deployment, (RoutingContext) context,
                             requestContext,
                             handlerChain,
-                            abortHandlerChain, launchMode == LaunchMode.DEVELOPMENT ? tccl : null, currentIdentityAssociation);
+                            abortHandlerChain, launchMode == LaunchMode.DEVELOPMENT ? tccl : null, currentIdentityAssociation,
+                            currentAllocationMetrics);
                 }
 
             };
@@ -188,6 +192,20 @@ closeTaskHandler, contextFactory, new ArcThreadSetupAction(beanContainer.request
         return new RuntimeValue<>(deployment);
     }
 
+    public Consumer<MetricsFactory> registerAllocationMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // this is only created at runtime, as the requests are only measured once the metrics exist
+                RequestAllocationMetrics metrics = RequestAllocationMetrics.create();
+                if (metrics != null) {
+                    metrics.register(metricsFactory);
+                    currentAllocationMetrics = metrics;
+                }
+            }
+        };
+    }
+
     public RuntimeValue<RestInitialHandler> restInitialHandler(RuntimeValue<Deployment> deploymentRuntimeValue) {
         Deployment deployment = deploymentRuntimeValue.getValue();
         return new RuntimeValue<>(new RestInitialHandler(deployment));
@@ -304,6 +322,20 @@ public EndpointInvoker get() {
         };
     }
 
+    public Supplier<HandlerChainInvoker> handlerChainInvoker(String baseName) {
+        return new Supplier<HandlerChainInvoker>() {
+            @Override
+            public HandlerChainInvoker get() {
+                try {
+                    return (HandlerChainInvoker) loadClass(baseName).getDeclaredConstructor().newInstance();
+                } catch (IllegalAccessException | InstantiationException | NoSuchMethodException
+                        | InvocationTargetException e) {
+                    throw new RuntimeException("Unable to generate handler chain invoker", e);
+                }
+            }
+        };
+    }
+
     public Function<Class<?>, BeanFactory<?>> factoryCreator(BeanContainer container) {
         return new Function<Class<?>, BeanFactory<?>>() {
             @Override
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.SchedulerLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.node-id=node-1"),
+                            "application.properties"));
+
+    @Test
+    public void testOnlyClaimedExecutionsRun() throws InterruptedException {
+        assertTrue(Jobs.CLAIMED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, Jobs.NOT_CLAIMED_COUNT.get());
+        assertTrue(InMemoryLeaseStore.NODES.contains("node-1"));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch CLAIMED_LATCH = new CountDownLatch(2);
+        static final AtomicInteger NOT_CLAIMED_COUNT = new AtomicInteger();
+
+        @Scheduled(every = "1s", identity = "claimed")
+        void claimed() {
+            CLAIMED_LATCH.countDown();
+        }
+
+        @Scheduled(every = "1s", identity = "claimed-by-another-node")
+        void notClaimed() {
+            NOT_CLAIMED_COUNT.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    public static class InMemoryLeaseStore implements SchedulerLeaseStore {
+
+        static final Set<String> NODES = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<String> heartbeat(String nodeId, Duration leaseDuration) {
+            NODES.add(nodeId);
+            return Set.copyOf(NODES);
+        }
+
+        @Override
+        public boolean tryClaim(String triggerId, Instant scheduledFireTime, String nodeId) {
+            return !triggerId.equals("claimed-by-another-node");
+        }
+
+        @Override
+        public void leave(String nodeId) {
+            NODES.remove(nodeId);
+        }
+
+    }
+
+}
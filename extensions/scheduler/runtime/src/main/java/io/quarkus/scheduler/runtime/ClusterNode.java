@@ -0,0 +1,121 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.JBossScheduledThreadPoolExecutor;
+
+/**
+ * The node of a cluster sharing the executions of the scheduled methods.
+ * <p>
+ * Each trigger is owned by a single live node, chosen by rendezvous hashing of the node ids and the trigger id, so that the
+ * triggers are spread evenly and only the triggers of a node which joined or left the cluster move to another node. The
+ * owner of a trigger also claims each execution in the {@link SchedulerLeaseStore}, so that an execution does not run twice
+ * while the nodes disagree on the live nodes.
+ * <p>
+ * The lease store is never called from the thread checking the triggers: the heartbeats run on a dedicated thread, and the
+ * executions are claimed on a worker thread.
+ */
+class ClusterNode {
+
+    private static final Logger LOG = Logger.getLogger(ClusterNode.class);
+
+    private final SchedulerLeaseStore store;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private volatile String[] liveNodeIds;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    ClusterNode(SchedulerLeaseStore store, String nodeId, Duration leaseDuration) {
+        this.store = store;
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.liveNodeIds = new String[0];
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return the period of the heartbeats in milliseconds
+     */
+    long getHeartbeatPeriod() {
+        return Math.max(1, leaseDuration.toMillis() / 3);
+    }
+
+    void heartbeat() {
+        try {
+            Set<String> nodeIds = new HashSet<>(store.heartbeat(nodeId, leaseDuration));
+            nodeIds.add(nodeId);
+            liveNodeIds = nodeIds.toArray(new String[0]);
+        } catch (Exception e) {
+            // Keep the current nodes, the other nodes take over the triggers of this node once its lease expires
+            LOG.warnf(e, "Unable to renew the lease of the scheduler node %s", nodeId);
+        }
+    }
+
+    /**
+     * Sends the first heartbeat from the current thread, then renews the lease well before it expires.
+     */
+    void join() {
+        heartbeat();
+        heartbeatExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
+            @Override
+            public void run() {
+                // noop
+            }
+        });
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, getHeartbeatPeriod(), getHeartbeatPeriod(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    void leave() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        store.leave(nodeId);
+    }
+
+    /**
+     * @return {@code true} if this node owns the trigger and claimed the execution
+     */
+    boolean claim(String triggerId, ZonedDateTime scheduledFireTime) {
+        if (!isOwner(triggerId)) {
+            return false;
+        }
+        try {
+            return store.tryClaim(triggerId, scheduledFireTime.toInstant(), nodeId);
+        } catch (Exception e) {
+            LOG.warnf(e, "Unable to claim the execution of %s scheduled at %s", triggerId, scheduledFireTime);
+            return false;
+        }
+    }
+
+    boolean isOwner(String triggerId) {
+        String owner = null;
+        long maxWeight = Long.MIN_VALUE;
+        for (String liveNodeId : liveNodeIds) {
+            long weight = weight(liveNodeId, triggerId);
+            // Ties are broken by the node id, so that all the nodes choose the same owner
+            if (owner == null || weight > maxWeight || (weight == maxWeight && liveNodeId.compareTo(owner) > 0)) {
+                owner = liveNodeId;
+                maxWeight = weight;
+            }
+        }
+        return nodeId.equals(owner);
+    }
+
+    static long weight(String nodeId, String triggerId) {
+        // The finalizer of SplitMix64, so that close hash codes give unrelated weights
+        long hash = ((long) nodeId.hashCode() << 32) ^ (triggerId.hashCode() & 0xffffffffL);
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
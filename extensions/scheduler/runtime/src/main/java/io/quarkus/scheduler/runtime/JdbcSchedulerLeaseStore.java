@@ -0,0 +1,132 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link SchedulerLeaseStore} backed by two tables of a database, created by the application:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_NODES (NODE_ID VARCHAR(255) PRIMARY KEY, EXPIRES_AT BIGINT NOT NULL);
+ * CREATE TABLE QUARKUS_SCHEDULER_EXECUTIONS (TRIGGER_ID VARCHAR(255) PRIMARY KEY, FIRE_TIME BIGINT NOT NULL,
+ *         NODE_ID VARCHAR(255) NOT NULL);
+ * </pre>
+ *
+ * An execution is claimed by a single conditional update of the row of its trigger, so the nodes do not hold row locks.
+ * The times are in milliseconds since the epoch, taken from the clock of the nodes. The connections of the data source must
+ * be in auto-commit mode.
+ */
+public class JdbcSchedulerLeaseStore implements SchedulerLeaseStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcSchedulerLeaseStore.class);
+
+    private final DataSource dataSource;
+    private final String renewNode;
+    private final String insertNode;
+    private final String deleteExpiredNodes;
+    private final String selectNodes;
+    private final String deleteNode;
+    private final String claimExecution;
+    private final String insertExecution;
+
+    public JdbcSchedulerLeaseStore(DataSource dataSource) {
+        this(dataSource, "QUARKUS_SCHEDULER_");
+    }
+
+    /**
+     * @param tablePrefix the prefix of the {@code NODES} and {@code EXECUTIONS} tables
+     */
+    public JdbcSchedulerLeaseStore(DataSource dataSource, String tablePrefix) {
+        this.dataSource = dataSource;
+        String nodes = tablePrefix + "NODES";
+        String executions = tablePrefix + "EXECUTIONS";
+        this.renewNode = "UPDATE " + nodes + " SET EXPIRES_AT = ? WHERE NODE_ID = ?";
+        this.insertNode = "INSERT INTO " + nodes + " (NODE_ID, EXPIRES_AT) VALUES (?, ?)";
+        this.deleteExpiredNodes = "DELETE FROM " + nodes + " WHERE EXPIRES_AT <= ?";
+        this.selectNodes = "SELECT NODE_ID FROM " + nodes;
+        this.deleteNode = "DELETE FROM " + nodes + " WHERE NODE_ID = ?";
+        this.claimExecution = "UPDATE " + executions + " SET FIRE_TIME = ?, NODE_ID = ? WHERE TRIGGER_ID = ? AND FIRE_TIME < ?";
+        this.insertExecution = "INSERT INTO " + executions + " (TRIGGER_ID, FIRE_TIME, NODE_ID) VALUES (?, ?, ?)";
+    }
+
+    @Override
+    public Set<String> heartbeat(String nodeId, Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            long expiresAt = now + leaseDuration.toMillis();
+            if (update(connection, renewNode, expiresAt, nodeId) == 0
+                    && !insert(connection, insertNode, nodeId, expiresAt)) {
+                // Inserted concurrently, which only happens if two nodes have the same id
+                update(connection, renewNode, expiresAt, nodeId);
+            }
+            update(connection, deleteExpiredNodes, now);
+            Set<String> nodeIds = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(selectNodes);
+                    ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    nodeIds.add(resultSet.getString(1));
+                }
+            }
+            return nodeIds;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to renew the lease of the scheduler node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public boolean tryClaim(String triggerId, Instant scheduledFireTime, String nodeId) {
+        long fireTime = scheduledFireTime.toEpochMilli();
+        try (Connection connection = dataSource.getConnection()) {
+            if (update(connection, claimExecution, fireTime, nodeId, triggerId, fireTime) == 1) {
+                return true;
+            }
+            // Either the first execution of the trigger, or an execution already claimed by another node
+            return insert(connection, insertExecution, triggerId, fireTime, nodeId);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to claim the execution of the trigger " + triggerId, e);
+        }
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        try (Connection connection = dataSource.getConnection()) {
+            update(connection, deleteNode, nodeId);
+        } catch (SQLException e) {
+            LOG.warnf(e, "Unable to release the lease of the scheduler node %s", nodeId);
+        }
+    }
+
+    private static int update(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * @return {@code false} if the row already exists
+     */
+    private static boolean insert(Connection connection, String sql, Object... parameters) throws SQLException {
+        try {
+            return update(connection, sql, parameters) == 1;
+        } catch (SQLException e) {
+            // SQL state class 23 is an integrity constraint violation, here a duplicate primary key
+            if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                return false;
+            }
+            throw e;
+        }
+    }
+}
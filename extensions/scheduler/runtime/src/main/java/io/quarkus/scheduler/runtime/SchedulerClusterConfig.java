@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class SchedulerClusterConfig {
+
+    /**
+     * If the scheduled methods are partitioned across the nodes of a cluster, so that each execution runs on a single node.
+     * <p>
+     * The nodes share their state through a bean implementing `io.quarkus.scheduler.runtime.SchedulerLeaseStore`. This only
+     * applies to the simple scheduler, the Quartz scheduler has its own clustering. The store may block: the heartbeats run
+     * on a dedicated thread and the executions are claimed on a worker thread, so a slow store delays the executions
+     * but not the checks of the triggers.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The unique id of this node. A random id is generated by default.
+     */
+    @ConfigItem
+    public Optional<String> nodeId;
+
+    /**
+     * How long the membership of a node is valid without a heartbeat. The nodes send a heartbeat every third of this
+     * duration, and the executions owned by a node which stopped are taken over by the other nodes after this duration.
+     */
+    @ConfigItem(defaultValue = "30S")
+    public Duration leaseDuration;
+}
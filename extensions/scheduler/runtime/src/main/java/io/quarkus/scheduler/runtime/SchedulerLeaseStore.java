@@ -0,0 +1,42 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Stores the leases shared by the nodes of a cluster, so that the scheduled methods are partitioned across the nodes.
+ * <p>
+ * If {@code quarkus.scheduler.cluster.enabled} is {@code true}, the application must provide a bean implementing this
+ * interface, for example a {@link JdbcSchedulerLeaseStore}. The methods may block: the heartbeats are sent from a thread
+ * dedicated to the node, and the executions are claimed on a worker thread, so the scheduler thread never calls the store.
+ * The implementation must be thread-safe.
+ */
+public interface SchedulerLeaseStore {
+
+    /**
+     * Renews the membership lease of a node, and returns the nodes whose membership lease did not expire.
+     *
+     * @param nodeId the id of the node
+     * @param leaseDuration how long the membership lease of the node is valid
+     * @return the ids of the live nodes, including the given node
+     */
+    Set<String> heartbeat(String nodeId, Duration leaseDuration);
+
+    /**
+     * Claims an execution of a trigger. At most one node may claim a given execution.
+     *
+     * @param triggerId the id of the trigger
+     * @param scheduledFireTime the time the execution was scheduled at
+     * @param nodeId the id of the node
+     * @return {@code true} if the execution was claimed by the given node
+     */
+    boolean tryClaim(String triggerId, Instant scheduledFireTime, String nodeId);
+
+    /**
+     * Releases the membership lease of a node, when it stops.
+     *
+     * @param nodeId the id of the node
+     */
+    void leave(String nodeId);
+}
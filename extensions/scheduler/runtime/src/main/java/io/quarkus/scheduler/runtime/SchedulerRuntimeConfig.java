@@ -20,4 +20,10 @@ public class SchedulerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1")
     public Duration overdueGracePeriod;
+
+    /**
+     * The partitioning of the scheduled methods across the nodes of a cluster.
+     */
+    @ConfigItem
+    public SchedulerClusterConfig cluster;
 }
@@ -10,6 +10,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -19,6 +20,7 @@
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
@@ -70,10 +72,11 @@ public class SimpleScheduler implements Scheduler {
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final boolean enabled;
+    private final ClusterNode clusterNode;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
-            Event<FailedExecution> failedExecutionEvent, Vertx vertx) {
+            Event<FailedExecution> failedExecutionEvent, Vertx vertx, Instance<SchedulerLeaseStore> leaseStore) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
@@ -81,11 +84,28 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.clusterNode = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
         } else if (context.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
+            this.clusterNode = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
         } else {
+            if (schedulerRuntimeConfig.cluster.enabled) {
+                if (!leaseStore.isResolvable()) {
+                    throw new IllegalStateException(
+                            "The scheduler cluster is enabled but no bean of type " + SchedulerLeaseStore.class.getName()
+                                    + " is available");
+                }
+                this.clusterNode = new ClusterNode(leaseStore.get(),
+                        schedulerRuntimeConfig.cluster.nodeId.orElseGet(() -> UUID.randomUUID().toString()),
+                        schedulerRuntimeConfig.cluster.leaseDuration);
+                LOG.infof("Simple scheduler shares the scheduled methods with the cluster as node %s",
+                        clusterNode.getNodeId());
+            } else {
+                this.clusterNode = null;
+            }
+
             this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
                 @Override
                 public void run() {
@@ -125,6 +145,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (clusterNode != null) {
+            // Join the cluster before the first check
+            clusterNode.join();
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -142,6 +166,14 @@ void stop() {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (clusterNode != null) {
+            // Let the other nodes take over the triggers of this node without waiting for its lease to expire
+            try {
+                clusterNode.leave();
+            } catch (Exception e) {
+                LOG.warn("Unable to leave the scheduler cluster", e);
+            }
+        }
     }
 
     void checkTriggers() {
@@ -152,7 +184,7 @@ void checkTriggers() {
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
         for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, vertx);
+            task.execute(now, vertx, clusterNode);
         }
     }
 
@@ -262,7 +294,7 @@ Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Sc
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod)));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), clusterNode != null));
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -298,36 +330,65 @@ static class ScheduledTask {
             this.invoker = invoker;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        void execute(ZonedDateTime now, Vertx vertx, ClusterNode clusterNode) {
             if (!trigger.isRunning()) {
                 return;
             }
+            // The trigger is evaluated on every node, so that its state is up to date when this node becomes its owner
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                if (clusterNode != null && !clusterNode.isOwner(trigger.id)) {
+                    LOG.tracef("%s not executed - owned by another node", trigger);
+                    return;
+                }
                 Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
                 VertxContextSafetyToggle.setContextSafe(context, true);
-                if (invoker.isBlocking()) {
+                if (clusterNode != null) {
+                    // The claim calls the lease store, it must not delay the checks of the other triggers
                     context.executeBlocking(new Handler<Promise<Object>>() {
                         @Override
                         public void handle(Promise<Object> p) {
                             try {
-                                doInvoke(now, scheduledFireTime);
+                                if (clusterNode.claim(trigger.id, scheduledFireTime)) {
+                                    if (invoker.isBlocking()) {
+                                        doInvoke(now, scheduledFireTime);
+                                    } else {
+                                        invokeOnContext(context, now, scheduledFireTime);
+                                    }
+                                } else {
+                                    LOG.tracef("%s not executed - claimed by another node", trigger);
+                                }
                             } finally {
                                 p.complete();
                             }
                         }
                     }, false);
-                } else {
-                    context.runOnContext(new Handler<Void>() {
+                } else if (invoker.isBlocking()) {
+                    context.executeBlocking(new Handler<Promise<Object>>() {
                         @Override
-                        public void handle(Void event) {
-                            doInvoke(now, scheduledFireTime);
+                        public void handle(Promise<Object> p) {
+                            try {
+                                doInvoke(now, scheduledFireTime);
+                            } finally {
+                                p.complete();
+                            }
                         }
-                    });
+                    }, false);
+                } else {
+                    invokeOnContext(context, now, scheduledFireTime);
                 }
             }
         }
 
+        void invokeOnContext(Context context, ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    doInvoke(now, scheduledFireTime);
+                }
+            });
+        }
+
         void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
             try {
                 invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
@@ -382,11 +443,21 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        private final boolean alignedToEpoch;
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod) {
+            this(id, start, interval, gracePeriod, false);
+        }
+
+        /**
+         * @param alignedToEpoch if {@code true} then the trigger fires at the multiples of the interval since the epoch, so
+         *        that the nodes of a cluster compute the same scheduled fire times whenever they started
+         */
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, boolean alignedToEpoch) {
             super(id, start);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
+            this.alignedToEpoch = alignedToEpoch;
         }
 
         @Override
@@ -394,6 +465,17 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
             }
+            if (alignedToEpoch) {
+                long nowMillis = now.toInstant().toEpochMilli();
+                ZonedDateTime scheduledFireTime = Instant.ofEpochMilli(nowMillis - Math.floorMod(nowMillis, interval))
+                        .atZone(now.getZone());
+                if (lastFireTime != null && !scheduledFireTime.isAfter(lastFireTime)) {
+                    return null;
+                }
+                lastFireTime = scheduledFireTime;
+                LOG.tracef("%s fired", this);
+                return scheduledFireTime;
+            }
             if (lastFireTime == null) {
                 // First execution
                 lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
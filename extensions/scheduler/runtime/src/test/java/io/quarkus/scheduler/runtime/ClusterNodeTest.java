@@ -0,0 +1,229 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class ClusterNodeTest {
+
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+    private static final ZonedDateTime FIRE_TIME = ZonedDateTime.of(2022, 10, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final InMemoryLeaseStore store = new InMemoryLeaseStore();
+
+    @Test
+    public void testEachTriggerHasOneOwner() {
+        List<ClusterNode> nodes = join("node-1", "node-2", "node-3");
+        Map<String, Integer> owned = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            String triggerId = "trigger-" + i;
+            ClusterNode owner = owner(nodes, triggerId);
+            owned.merge(owner.getNodeId(), 1, Integer::sum);
+        }
+        // The triggers are spread across all the nodes
+        assertEquals(3, owned.size());
+        for (int count : owned.values()) {
+            assertTrue(count > 50, "Unbalanced ownership: " + owned);
+        }
+    }
+
+    @Test
+    public void testOnlyTheTriggersOfALeavingNodeMove() {
+        List<ClusterNode> nodes = join("node-1", "node-2", "node-3");
+        Map<String, String> owners = owners(nodes, 100);
+
+        ClusterNode leaving = nodes.remove(2);
+        leaving.leave();
+        heartbeat(nodes);
+
+        for (Map.Entry<String, String> entry : owners.entrySet()) {
+            String newOwner = owner(nodes, entry.getKey()).getNodeId();
+            if (!entry.getValue().equals(leaving.getNodeId())) {
+                assertEquals(entry.getValue(), newOwner, entry.getKey());
+            }
+        }
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() {
+        List<ClusterNode> nodes = join("node-1", "node-2", "node-3");
+        Map<String, String> owners = owners(nodes, 100);
+        ClusterNode stopped = nodes.remove(2);
+
+        // The stopped node is still live until its lease expires
+        store.now.addAndGet(LEASE_DURATION.toMillis() - 1);
+        heartbeat(nodes);
+        assertEquals(3, store.nodes.size());
+        for (Map.Entry<String, String> entry : owners.entrySet()) {
+            if (entry.getValue().equals(stopped.getNodeId())) {
+                assertFalse(nodes.get(0).isOwner(entry.getKey()));
+                assertFalse(nodes.get(1).isOwner(entry.getKey()));
+            }
+        }
+
+        store.now.addAndGet(LEASE_DURATION.toMillis());
+        nodes.get(0).heartbeat();
+        nodes.get(1).heartbeat();
+        assertEquals(Set.of("node-1", "node-2"), store.nodes.keySet());
+        for (String triggerId : owners.keySet()) {
+            owner(nodes, triggerId);
+        }
+    }
+
+    @Test
+    public void testExecutionIsClaimedOnce() {
+        List<ClusterNode> nodes = join("node-1", "node-2");
+        ClusterNode owner = owner(nodes, "trigger");
+        ClusterNode other = nodes.get(0) == owner ? nodes.get(1) : nodes.get(0);
+
+        assertFalse(other.claim("trigger", FIRE_TIME));
+        assertTrue(owner.claim("trigger", FIRE_TIME));
+        assertFalse(owner.claim("trigger", FIRE_TIME));
+        assertTrue(owner.claim("trigger", FIRE_TIME.plusMinutes(1)));
+    }
+
+    @Test
+    public void testIntervalExecutionIsClaimedOnceWhenTheOwnerChanges() {
+        List<ClusterNode> nodes = join("node-1", "node-2");
+        ClusterNode owner = owner(nodes, "interval");
+        ClusterNode other = nodes.get(0) == owner ? nodes.get(1) : nodes.get(0);
+        // The nodes started at different times
+        SimpleScheduler.IntervalTrigger ownerTrigger = new SimpleScheduler.IntervalTrigger("interval",
+                FIRE_TIME.minusSeconds(7), 60_000, Duration.ofSeconds(1), true);
+        SimpleScheduler.IntervalTrigger otherTrigger = new SimpleScheduler.IntervalTrigger("interval",
+                FIRE_TIME.minusSeconds(23), 60_000, Duration.ofSeconds(1), true);
+
+        ZonedDateTime fireTime = ownerTrigger.evaluate(FIRE_TIME.plusSeconds(10));
+        assertEquals(FIRE_TIME, fireTime);
+        assertTrue(owner.claim("interval", fireTime));
+
+        // The owner stops before the other node evaluates the trigger in the same interval
+        nodes.remove(owner);
+        owner.leave();
+        heartbeat(nodes);
+        assertTrue(other.isOwner("interval"));
+        assertEquals(fireTime, otherTrigger.evaluate(FIRE_TIME.plusSeconds(40)));
+        assertFalse(other.claim("interval", fireTime));
+
+        assertNull(otherTrigger.evaluate(FIRE_TIME.plusSeconds(59)));
+        ZonedDateTime nextFireTime = otherTrigger.evaluate(FIRE_TIME.plusSeconds(61));
+        assertEquals(FIRE_TIME.plusMinutes(1), nextFireTime);
+        assertTrue(other.claim("interval", nextFireTime));
+    }
+
+    @Test
+    public void testFailedHeartbeatKeepsTheLiveNodes() {
+        List<ClusterNode> nodes = join("node-1", "node-2");
+        Map<String, String> owners = owners(nodes, 20);
+
+        store.failing = true;
+        heartbeat(nodes);
+        assertEquals(owners, owners(nodes, 20));
+        // A failed claim does not execute the trigger
+        assertFalse(owner(nodes, "trigger-0").claim("trigger-0", FIRE_TIME));
+    }
+
+    @Test
+    public void testWeightsAreDistinct() {
+        assertEquals(ClusterNode.weight("node-1", "trigger"), ClusterNode.weight("node-1", "trigger"));
+        assertTrue(ClusterNode.weight("node-1", "trigger") != ClusterNode.weight("node-2", "trigger"));
+        assertTrue(ClusterNode.weight("node-1", "trigger-1") != ClusterNode.weight("node-1", "trigger-2"));
+    }
+
+    private List<ClusterNode> join(String... nodeIds) {
+        List<ClusterNode> nodes = new ArrayList<>();
+        for (String nodeId : nodeIds) {
+            nodes.add(new ClusterNode(store, nodeId, LEASE_DURATION));
+        }
+        // The first nodes only see the last nodes after their next heartbeat
+        heartbeat(nodes);
+        heartbeat(nodes);
+        return nodes;
+    }
+
+    private static void heartbeat(List<ClusterNode> nodes) {
+        for (ClusterNode node : nodes) {
+            node.heartbeat();
+        }
+    }
+
+    private static ClusterNode owner(List<ClusterNode> nodes, String triggerId) {
+        ClusterNode owner = null;
+        for (ClusterNode node : nodes) {
+            if (node.isOwner(triggerId)) {
+                if (owner != null) {
+                    fail(triggerId + " is owned by " + owner.getNodeId() + " and " + node.getNodeId());
+                }
+                owner = node;
+            }
+        }
+        if (owner == null) {
+            fail(triggerId + " has no owner");
+        }
+        return owner;
+    }
+
+    private static Map<String, String> owners(List<ClusterNode> nodes, int triggers) {
+        Map<String, String> owners = new HashMap<>();
+        for (int i = 0; i < triggers; i++) {
+            String triggerId = "trigger-" + i;
+            owners.put(triggerId, owner(nodes, triggerId).getNodeId());
+        }
+        return owners;
+    }
+
+    static class InMemoryLeaseStore implements SchedulerLeaseStore {
+
+        final AtomicLong now = new AtomicLong(1_000_000);
+        final Map<String, Long> nodes = new ConcurrentHashMap<>();
+        final Map<String, Instant> executions = new ConcurrentHashMap<>();
+        volatile boolean failing;
+
+        @Override
+        public Set<String> heartbeat(String nodeId, Duration leaseDuration) {
+            checkFailing();
+            long time = now.get();
+            nodes.put(nodeId, time + leaseDuration.toMillis());
+            nodes.values().removeIf(expiresAt -> expiresAt <= time);
+            return Set.copyOf(nodes.keySet());
+        }
+
+        @Override
+        public synchronized boolean tryClaim(String triggerId, Instant scheduledFireTime, String nodeId) {
+            checkFailing();
+            Instant claimed = executions.get(triggerId);
+            if (claimed != null && !claimed.isBefore(scheduledFireTime)) {
+                return false;
+            }
+            executions.put(triggerId, scheduledFireTime);
+            return true;
+        }
+
+        @Override
+        public void leave(String nodeId) {
+            nodes.remove(nodeId);
+        }
+
+        private void checkFailing() {
+            if (failing) {
+                throw new IllegalStateException("The store is not available");
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcSchedulerLeaseStoreTest {
+
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+    private static final Instant FIRE_TIME = Instant.parse("2022-10-01T12:00:00Z");
+    private static final int THREADS = 8;
+
+    private JdbcDataSource dataSource;
+    private JdbcSchedulerLeaseStore store;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void createTables() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:scheduler;DB_CLOSE_DELAY=-1");
+        execute("DROP ALL OBJECTS");
+        execute("CREATE TABLE QUARKUS_SCHEDULER_NODES (NODE_ID VARCHAR(255) PRIMARY KEY, EXPIRES_AT BIGINT NOT NULL)");
+        execute("CREATE TABLE QUARKUS_SCHEDULER_EXECUTIONS (TRIGGER_ID VARCHAR(255) PRIMARY KEY, FIRE_TIME BIGINT NOT NULL, "
+                + "NODE_ID VARCHAR(255) NOT NULL)");
+        store = new JdbcSchedulerLeaseStore(dataSource);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testHeartbeat() throws SQLException {
+        assertEquals(Set.of("node-1"), store.heartbeat("node-1", LEASE_DURATION));
+        assertEquals(Set.of("node-1", "node-2"), store.heartbeat("node-2", LEASE_DURATION));
+        // The lease is renewed, not inserted again
+        assertEquals(Set.of("node-1", "node-2"), store.heartbeat("node-1", LEASE_DURATION));
+        assertEquals(2, count("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_NODES"));
+
+        store.leave("node-1");
+        assertEquals(Set.of("node-2"), store.heartbeat("node-2", LEASE_DURATION));
+    }
+
+    @Test
+    public void testExpiredNodesAreDeleted() throws SQLException {
+        execute("INSERT INTO QUARKUS_SCHEDULER_NODES (NODE_ID, EXPIRES_AT) VALUES ('expired', 1)");
+        execute("INSERT INTO QUARKUS_SCHEDULER_NODES (NODE_ID, EXPIRES_AT) VALUES ('live', "
+                + (System.currentTimeMillis() + LEASE_DURATION.toMillis()) + ")");
+
+        assertEquals(Set.of("node-1", "live"), store.heartbeat("node-1", LEASE_DURATION));
+        assertEquals(0, count("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_NODES WHERE NODE_ID = 'expired'"));
+    }
+
+    @Test
+    public void testConcurrentHeartbeatsOfTheSameNode() throws Exception {
+        // Both the renewal and the insertion may fail, the duplicate key is then renewed
+        List<Set<String>> results = runConcurrently(() -> store.heartbeat("node-1", LEASE_DURATION));
+        for (Set<String> nodeIds : results) {
+            assertEquals(Set.of("node-1"), nodeIds);
+        }
+        assertEquals(1, count("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_NODES"));
+    }
+
+    @Test
+    public void testClaim() throws SQLException {
+        // The first execution of a trigger inserts its row
+        assertTrue(store.tryClaim("trigger", FIRE_TIME, "node-1"));
+        assertFalse(store.tryClaim("trigger", FIRE_TIME, "node-2"));
+
+        assertTrue(store.tryClaim("trigger", FIRE_TIME.plusSeconds(60), "node-2"));
+        // An older execution cannot be claimed anymore
+        assertFalse(store.tryClaim("trigger", FIRE_TIME, "node-1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_EXECUTIONS WHERE NODE_ID = 'node-2' AND FIRE_TIME = "
+                + FIRE_TIME.plusSeconds(60).toEpochMilli()));
+    }
+
+    @Test
+    public void testConcurrentClaims() throws Exception {
+        // The first execution, claimed by an insertion, then the next one, claimed by an update
+        for (Instant fireTime : List.of(FIRE_TIME, FIRE_TIME.plusSeconds(60))) {
+            List<Boolean> results = runConcurrently(new Callable<Boolean>() {
+                int node;
+
+                @Override
+                public Boolean call() {
+                    String nodeId;
+                    synchronized (this) {
+                        nodeId = "node-" + node++;
+                    }
+                    return store.tryClaim("trigger", fireTime, nodeId);
+                }
+            });
+            assertEquals(1, results.stream().filter(Boolean::booleanValue).count(), fireTime.toString());
+        }
+    }
+
+    @Test
+    public void testTablePrefix() throws SQLException {
+        execute("CREATE TABLE APP_NODES (NODE_ID VARCHAR(255) PRIMARY KEY, EXPIRES_AT BIGINT NOT NULL)");
+        execute("CREATE TABLE APP_EXECUTIONS (TRIGGER_ID VARCHAR(255) PRIMARY KEY, FIRE_TIME BIGINT NOT NULL, "
+                + "NODE_ID VARCHAR(255) NOT NULL)");
+        JdbcSchedulerLeaseStore prefixed = new JdbcSchedulerLeaseStore(dataSource, "APP_");
+
+        assertEquals(Set.of("node-1"), prefixed.heartbeat("node-1", LEASE_DURATION));
+        assertTrue(prefixed.tryClaim("trigger", FIRE_TIME, "node-1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_NODES"));
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -25,6 +25,7 @@
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticator;
 import io.quarkus.vertx.http.runtime.security.HttpAuthorizer;
+import io.quarkus.vertx.http.runtime.security.HttpIdentityCache;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityRecorder;
 import io.quarkus.vertx.http.runtime.security.MtlsAuthenticationMechanism;
@@ -120,6 +121,22 @@ SyntheticBeanBuildItem initBasicAuth(
         return configurator.done();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    SyntheticBeanBuildItem initIdentityCache(
+            HttpSecurityRecorder recorder,
+            HttpBuildTimeConfig buildTimeConfig,
+            Capabilities capabilities) {
+        if (!buildTimeConfig.auth.identityCache.enabled || !capabilities.isPresent(Capability.SECURITY)) {
+            return null;
+        }
+        return SyntheticBeanBuildItem.configure(HttpIdentityCache.class)
+                .setRuntimeInit()
+                .scope(Singleton.class)
+                .unremovable()
+                .supplier(recorder.setupIdentityCache(buildTimeConfig)).done();
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     void setupAuthenticationMechanisms(
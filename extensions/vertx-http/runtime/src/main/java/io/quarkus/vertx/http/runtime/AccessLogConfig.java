@@ -4,6 +4,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class AccessLogConfig {
@@ -77,4 +78,18 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * If set, the log file is also rotated when it reaches this size. Rotation must be enabled.
+     */
+    @ConfigItem
+    public Optional<MemorySize> rotateSize;
+
+    /**
+     * The maximum number of messages waiting to be written to the log file. It is rounded up to a power of two. When the
+     * queue is full, the new messages are dropped and the number of dropped messages is logged, so that the requests are
+     * never slowed down by the file system.
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int queueSize;
+
 }
@@ -53,4 +53,10 @@ public class AuthConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean proactive;
+
+    /**
+     * The cache of the identities created from the request credentials
+     */
+    @ConfigItem
+    public IdentityCacheConfig identityCache;
 }
@@ -0,0 +1,37 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Config for the cache of the identities created from the request credentials
+ */
+@ConfigGroup
+public class IdentityCacheConfig {
+
+    /**
+     * If the identities created from the username and password, token or form authentication cookie of a request
+     * should be cached, so that the next requests with the same credentials are not verified again by the identity
+     * providers.
+     *
+     * Only the successful authentications are cached. A cached identity is not refreshed when the user is updated or
+     * removed before it expires, unless the application invalidates it with
+     * `io.quarkus.vertx.http.runtime.security.HttpIdentityCache`.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached identities.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * How long an identity is cached. An identity with an expiration time is not cached after it expired.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public Duration timeToLive;
+}
@@ -43,7 +43,8 @@ public class PolicyMappingConfig {
 
     /**
      * The paths that this permission check applies to. If the path ends in /* then this is treated
-     * as a path prefix, otherwise it is treated as an exact match.
+     * as a path prefix, otherwise it is treated as an exact match. A path segment that is only * matches
+     * any single segment of the request path.
      *
      * Matches are done on a length basis, so the most specific path match takes precedence.
      *
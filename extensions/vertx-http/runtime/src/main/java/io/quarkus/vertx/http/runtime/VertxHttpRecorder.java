@@ -79,7 +79,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
-import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.BatchedAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.core.AbstractVerticle;
@@ -553,8 +553,9 @@ public void handle(HttpServerRequest event) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                long rotateSize = accessLog.rotateSize.isPresent() ? accessLog.rotateSize.get().asLongValue() : 0;
+                receiver = new BatchedAccessLogReceiver(executor, outputDir.toPath(), accessLog.baseFileName,
+                        accessLog.logSuffix, accessLog.rotate, rotateSize, accessLog.queueSize);
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,6 +23,8 @@ public class DateTimeAttribute implements ExchangeAttribute {
     public static final ExchangeAttribute INSTANCE = new DateTimeAttribute();
 
     private final DateTimeFormatter formatter;
+    // The formatted time of the current second, null if the pattern has fields smaller than a second
+    private volatile FormattedSecond formattedSecond;
 
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
@@ -37,11 +40,38 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        if (!hasFractionOfSecond(dateFormat)) {
+            this.formattedSecond = new FormattedSecond(Long.MIN_VALUE, null);
+        }
+    }
+
+    private static boolean hasFractionOfSecond(String dateFormat) {
+        boolean quoted = false;
+        for (int i = 0; i < dateFormat.length(); i++) {
+            char c = dateFormat.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        FormattedSecond current = formattedSecond;
+        if (current == null) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        // The time is only formatted once per second
+        long second = System.currentTimeMillis() / 1000;
+        if (current.second != second) {
+            ZonedDateTime now = ZonedDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault());
+            current = new FormattedSecond(second, formatter.format(now));
+            formattedSecond = current;
+        }
+        return current.value;
     }
 
     @Override
@@ -49,6 +79,17 @@ public void writeAttribute(final RoutingContext exchange, final String newValue)
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private static final class FormattedSecond {
+
+        final long second;
+        final String value;
+
+        FormattedSecond(long second, String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
 import java.util.List;
+import java.util.Map;
 
 import io.vertx.ext.web.RoutingContext;
 
@@ -36,6 +37,28 @@ public String readAttribute(final RoutingContext exchange) {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        // Iterating the headers does not copy the values into a list like getAll() does
+        int start = builder.length();
+        int count = 0;
+        for (Map.Entry<String, String> header : exchange.request().headers()) {
+            if (header.getKey().equalsIgnoreCase(requestHeader)) {
+                if (count == 1) {
+                    builder.insert(start, '[');
+                }
+                if (count > 0) {
+                    builder.append(", ");
+                }
+                builder.append(header.getValue());
+                ++count;
+            }
+        }
+        if (count > 1) {
+            builder.append(']');
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         if (newValue == null) {
@@ -92,6 +92,17 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    // Messages longer than that do not keep their builder
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8192;
+
+    // The messages are formatted on the event loop threads, each of them reuses its builder
+    private static final ThreadLocal<StringBuilder> BUILDERS = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final ExchangeAttribute tokens;
@@ -145,7 +156,13 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                StringBuilder builder = BUILDERS.get();
+                builder.setLength(0);
+                tokens.appendAttribute(rc, builder);
+                accessLogReceiver.logMessage(builder);
+                if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                    BUILDERS.remove();
+                }
             }
         });
         rc.next();
@@ -29,4 +29,12 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message which is only valid during this call, the caller reuses it afterwards. Receivers that can write the
+     * characters directly should override it, by default the message is converted to a string.
+     */
+    default void logMessage(final CharSequence message) {
+        logMessage(message.toString());
+    }
+
 }
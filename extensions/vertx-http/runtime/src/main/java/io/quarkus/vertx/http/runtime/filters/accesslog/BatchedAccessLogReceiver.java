@@ -0,0 +1,448 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Log receiver that stores logs in a directory under the specified file name, and rotates them after midnight or when the
+ * file reaches a given size.
+ * <p>
+ * Web threads encode their message into a slot of a bounded ring. They never block: when the ring is full the message is
+ * dropped and counted. The direct buffer of a slot is allocated on its first use and reused, up to
+ * {@value #MAX_RETAINED_SLOT_SIZE} bytes; a longer message is encoded into a heap buffer which is released once written.
+ * A single worker thread, scheduled like in {@link DefaultAccessLogReceiver}, drains the ring with gathering writes to a
+ * {@link FileChannel}, and rotates the file between two writes.
+ */
+public class BatchedAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(BatchedAccessLogReceiver.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final int INITIAL_SLOT_SIZE = 256;
+    static final int MAX_RETAINED_SLOT_SIZE = 4096;
+    // The maximum number of buffers of a gathering write, well below the IOV_MAX of the usual platforms
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final int MAX_QUEUE_SIZE = 1 << 30;
+
+    private final Executor logWriteExecutor;
+    private final Slot[] slots;
+    private final int mask;
+    // The next position claimed by a producer
+    private final AtomicLong tail = new AtomicLong();
+    // The next position written by the worker, only updated by the worker
+    private volatile long head;
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH_SIZE];
+
+    private final LongAdder droppedMessages = new LongAdder();
+    private long reportedDroppedMessages;
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<BatchedAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(BatchedAccessLogReceiver.class, "state");
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+    private final long rotateSize;
+
+    private FileChannel channel;
+    private long fileSize;
+    private LocalDate currentDate;
+    private volatile boolean forceLogRotation;
+    private volatile boolean closed;
+    private boolean initialRun = true;
+
+    /**
+     * @param logWriteExecutor the executor of the worker
+     * @param outputDirectory the directory of the log files
+     * @param logBaseName the name of the log file, without suffix
+     * @param logNameSuffix the suffix of the log file, {@code .log} if {@code null}
+     * @param rotate whether the log file is rotated
+     * @param rotateSize the size in bytes from which the log file is rotated, or {@code 0} to only rotate it daily
+     * @param queueSize the maximum number of messages waiting to be written, rounded up to a power of two
+     */
+    public BatchedAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
+            final String logNameSuffix, boolean rotate, long rotateSize, int queueSize) {
+        if (queueSize <= 0 || queueSize > MAX_QUEUE_SIZE) {
+            throw new IllegalArgumentException("The access log queue size must be between 1 and " + MAX_QUEUE_SIZE);
+        }
+        this.logWriteExecutor = logWriteExecutor;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.rotateSize = rotateSize;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        int capacity = queueSize == 1 ? 1 : Integer.highestOneBit(queueSize - 1) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = capacity - 1;
+        this.currentDate = lastModifiedDate();
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the date of the current log file, the last modification date if it already exists
+     */
+    private LocalDate lastModifiedDate() {
+        if (Files.exists(defaultLogFile)) {
+            try {
+                return LocalDate.ofInstant(Instant.ofEpochMilli(Files.getLastModifiedTime(defaultLogFile).toMillis()),
+                        ZoneId.systemDefault());
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        return LocalDate.now();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        logMessage((CharSequence) message);
+    }
+
+    @Override
+    public void logMessage(final CharSequence message) {
+        long position;
+        Slot slot;
+        for (;;) {
+            position = tail.get();
+            slot = slots[(int) position & mask];
+            long sequence = slot.sequence;
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                // The slot still holds a message of the previous lap, the ring is full
+                droppedMessages.increment();
+                schedule();
+                return;
+            }
+            // Otherwise another producer claimed the slot, try the next one
+        }
+        slot.write(message);
+        // Publishes the message to the worker
+        slot.sequence = position + 1;
+        schedule();
+    }
+
+    private void schedule() {
+        if (state == 0 && stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * writes all published log messages
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        try {
+            if (initialRun) {
+                initialRun = false;
+                //if there is an existing log file from a previous day it is rotated
+                if (currentDate.isBefore(LocalDate.now())) {
+                    doRotate();
+                }
+            }
+            if (forceLogRotation) {
+                doRotate();
+            }
+            drain();
+            reportDroppedMessages();
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there is still more messages
+            //if so then run this again
+            if (getBacklog() > 0 || forceLogRotation) {
+                schedule();
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    private void drain() {
+        long position = head;
+        for (;;) {
+            int count = 0;
+            while (count < MAX_BATCH_SIZE) {
+                Slot slot = slots[(int) (position + count) & mask];
+                if (slot.sequence != position + count + 1) {
+                    break;
+                }
+                batch[count++] = slot.buffer;
+            }
+            if (count == 0) {
+                return;
+            }
+            write(count);
+            for (int i = 0; i < count; i++) {
+                batch[i] = null;
+                Slot slot = slots[(int) (position + i) & mask];
+                slot.release();
+                // Gives the slot back to the producers, for the next lap
+                slot.sequence = position + i + slots.length;
+            }
+            position += count;
+            head = position;
+        }
+    }
+
+    private void write(int count) {
+        if (rotate && (!currentDate.equals(LocalDate.now()) || (rotateSize > 0 && fileSize >= rotateSize))) {
+            doRotate();
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+                fileSize = channel.size();
+            }
+            long remaining = 0;
+            for (int i = 0; i < count; i++) {
+                remaining += batch[i].remaining();
+            }
+            int offset = 0;
+            while (remaining > 0) {
+                long written = channel.write(batch, offset, count - offset);
+                remaining -= written;
+                fileSize += written;
+                while (offset < count && !batch[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped != reportedDroppedMessages) {
+            log.warnf("%s access log messages were dropped because the queue was full",
+                    dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            String dateString = DATE_FORMAT.format(currentDate);
+            Path newFile = outputDirectory.resolve(logBaseName + dateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + dateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            currentDate = LocalDate.now();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+            fileSize = 0;
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the queue was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public long getBacklog() {
+        return tail.get() - head;
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        schedule();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        schedule();
+    }
+
+    /**
+     * @return the capacity of the buffers held by the slots, for tests only
+     */
+    long getRetainedBytesForTest() {
+        long retained = 0;
+        for (Slot slot : slots) {
+            ByteBuffer buffer = slot.buffer;
+            if (buffer != null) {
+                retained += buffer.capacity();
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * For tests only. Blocks the current thread until all messages are written
+     * Just does a busy wait.
+     * <p/>
+     * DO NOT USE THIS OUTSIDE OF A TEST
+     */
+    void awaitWrittenForTest() throws InterruptedException {
+        while (getBacklog() > 0 || forceLogRotation) {
+            Thread.sleep(10);
+        }
+        while (state != 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class Slot {
+
+        // The position of the slot for which a producer can write, or that position + 1 once the message is published
+        volatile long sequence;
+        // Written by the producer which claimed the slot, or by the worker once the message is written
+        ByteBuffer buffer;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+
+        void write(CharSequence message) {
+            int length = utf8Length(message) + 1;
+            if (buffer == null || buffer.capacity() < length) {
+                if (length > MAX_RETAINED_SLOT_SIZE) {
+                    buffer = ByteBuffer.allocate(length);
+                } else {
+                    // Rounded up to a power of two, so that a slot grows a few times at most
+                    buffer = ByteBuffer.allocateDirect(Math.max(INITIAL_SLOT_SIZE, Integer.highestOneBit(length - 1) << 1));
+                }
+            }
+            buffer.clear();
+            encodeUtf8(message, buffer);
+            buffer.put((byte) '\n');
+            buffer.flip();
+        }
+
+        void release() {
+            if (buffer.capacity() > MAX_RETAINED_SLOT_SIZE) {
+                buffer = null;
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes written by {@link #encodeUtf8(CharSequence, ByteBuffer)}
+     */
+    static int utf8Length(CharSequence message) {
+        int length = message.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(message.charAt(i + 1))) {
+                        // 2 chars encoded to 4 bytes
+                        utf8Length += 2;
+                        i++;
+                    }
+                } else {
+                    utf8Length += 2;
+                }
+            } else if (c >= 0x80) {
+                utf8Length++;
+            }
+        }
+        return utf8Length;
+    }
+
+    /**
+     * Encodes without creating an intermediate byte array, unpaired surrogates are replaced with {@code ?}.
+     */
+    static void encodeUtf8(CharSequence message, ByteBuffer buffer) {
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(message.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, message.charAt(++i));
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    buffer.put((byte) '?');
+                }
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
@@ -36,8 +36,12 @@ public class HttpAuthenticator {
     public HttpAuthenticator(IdentityProviderManager identityProviderManager,
             Instance<PathMatchingHttpSecurityPolicy> pathMatchingPolicy,
             Instance<HttpAuthenticationMechanism> httpAuthenticationMechanism,
-            Instance<IdentityProvider<?>> providers) {
-        this.identityProviderManager = identityProviderManager;
+            Instance<IdentityProvider<?>> providers,
+            Instance<HttpIdentityCache> identityCache) {
+        // The mechanisms authenticate through the cache, if the identities are cached
+        this.identityProviderManager = identityCache.isResolvable()
+                ? identityCache.get().wrap(identityProviderManager)
+                : identityProviderManager;
         this.pathMatchingPolicy = pathMatchingPolicy;
         List<HttpAuthenticationMechanism> mechanisms = new ArrayList<>();
         for (HttpAuthenticationMechanism mechanism : httpAuthenticationMechanism) {
@@ -0,0 +1,284 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Bounded cache of the identities created by the {@link IdentityProviderManager} from the credentials of a request.
+ * <p>
+ * The identities are cached for the username and password, plain token and trusted (form authentication cookie) requests,
+ * keyed by a SHA-256 hash of the credential, so the credentials are not kept in memory. Only the successful authentications
+ * are cached, and an identity is cached until the configured time to live elapses, or until its
+ * {@code quarkus.identity.expire-time} attribute if it expires earlier. Once the cache is full, the least recently used
+ * identity is removed.
+ * <p>
+ * The key does not depend on the request, so the identities which do are never cached: the tokens of a specific
+ * credential type, like the OIDC and JWT tokens whose verification depends on the tenant of the request, and the identities
+ * holding the {@link RoutingContext} of the request which created them.
+ * <p>
+ * This bean exists when {@code quarkus.http.auth.identity-cache.enabled} is {@code true}. The application can inject it to
+ * invalidate the identities of a user whose credentials or roles changed.
+ */
+public class HttpIdentityCache {
+
+    /**
+     * The attribute holding the expiration time of an identity, in seconds since the epoch
+     */
+    static final String EXPIRE_TIME_ATTRIBUTE = "quarkus.identity.expire-time";
+
+    /**
+     * Access ordered, guarded by itself
+     */
+    private final LinkedHashMap<String, CachedIdentity> identities;
+    private final long timeToLiveMillis;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public HttpIdentityCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, new LongSupplier() {
+            @Override
+            public long getAsLong() {
+                return System.currentTimeMillis();
+            }
+        });
+    }
+
+    HttpIdentityCache(int maxSize, Duration timeToLive, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the identity cache must be positive: " + maxSize);
+        }
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.identities = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedIdentity> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return an identity provider manager which looks up the identities in this cache before delegating the authentication
+     */
+    public IdentityProviderManager wrap(IdentityProviderManager delegate) {
+        return new CachingIdentityProviderManager(delegate);
+    }
+
+    /**
+     * Removes the cached identities of a user.
+     *
+     * @param principalName the name of the principal of the identities
+     */
+    public void invalidate(String principalName) {
+        synchronized (identities) {
+            Iterator<CachedIdentity> it = identities.values().iterator();
+            while (it.hasNext()) {
+                if (principalName.equals(it.next().identity.getPrincipal().getName())) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        synchronized (identities) {
+            identities.clear();
+        }
+    }
+
+    /**
+     * @return the number of authentications answered with a cached identity
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of cacheable authentications delegated to the identity providers
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached identities, including the expired identities which were not removed yet
+     */
+    public int size() {
+        synchronized (identities) {
+            return identities.size();
+        }
+    }
+
+    SecurityIdentity get(String key) {
+        CachedIdentity cached;
+        synchronized (identities) {
+            cached = identities.get(key);
+            if (cached != null && cached.expiresAt <= clock.getAsLong()) {
+                identities.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached.identity;
+        }
+        misses.increment();
+        return null;
+    }
+
+    void put(String key, SecurityIdentity identity) {
+        if (identity == null || identity.isAnonymous() || holdsRoutingContext(identity)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long expiresAt = now + timeToLiveMillis;
+        Object expireTime = identity.getAttribute(EXPIRE_TIME_ATTRIBUTE);
+        if (expireTime instanceof Number) {
+            expiresAt = Math.min(expiresAt, ((Number) expireTime).longValue() * 1000);
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        CachedIdentity cached = new CachedIdentity(identity, expiresAt);
+        synchronized (identities) {
+            // Removes the least recently used identity if the cache is full
+            identities.put(key, cached);
+        }
+    }
+
+    /**
+     * @return {@code true} if the identity references the request which created it, and must not outlive it
+     */
+    private static boolean holdsRoutingContext(SecurityIdentity identity) {
+        for (Object attribute : identity.getAttributes().values()) {
+            if (attribute instanceof RoutingContext) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the cache key of the request, or {@code null} if the identities created from this request are not cached
+     */
+    static String key(AuthenticationRequest request) {
+        // Subclasses may carry more than the credential, so only the exact request types are cached
+        Class<?> requestType = request.getClass();
+        if (requestType == UsernamePasswordAuthenticationRequest.class) {
+            UsernamePasswordAuthenticationRequest usernamePassword = (UsernamePasswordAuthenticationRequest) request;
+            return hash("password", usernamePassword.getUsername(),
+                    CharBuffer.wrap(usernamePassword.getPassword().getPassword()));
+        } else if (requestType == TokenAuthenticationRequest.class) {
+            TokenCredential token = ((TokenAuthenticationRequest) request).getToken();
+            // The OIDC and JWT credentials are subclasses, their identities depend on the tenant of the request
+            if (token.getClass() != TokenCredential.class) {
+                return null;
+            }
+            return hash("token", token.getType(), token.getToken());
+        } else if (requestType == TrustedAuthenticationRequest.class) {
+            return hash("trusted", ((TrustedAuthenticationRequest) request).getPrincipal());
+        }
+        return null;
+    }
+
+    private static String hash(String type, CharSequence... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(type.getBytes(StandardCharsets.UTF_8));
+        for (CharSequence part : parts) {
+            // Separates the parts, so that different parts never have the same concatenation
+            digest.update((byte) 0);
+            if (part != null) {
+                ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(part));
+                digest.update(bytes);
+                if (bytes.hasArray()) {
+                    Arrays.fill(bytes.array(), (byte) 0);
+                }
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static final class CachedIdentity {
+
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        CachedIdentity(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class CachingIdentityProviderManager implements IdentityProviderManager {
+
+        private final IdentityProviderManager delegate;
+
+        CachingIdentityProviderManager(IdentityProviderManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+            String key = key(request);
+            if (key == null) {
+                return delegate.authenticate(request);
+            }
+            SecurityIdentity cached = get(key);
+            if (cached != null) {
+                return Uni.createFrom().item(cached);
+            }
+            return delegate.authenticate(request).onItem().invoke(new Consumer<SecurityIdentity>() {
+                @Override
+                public void accept(SecurityIdentity identity) {
+                    put(key, identity);
+                }
+            });
+        }
+
+        @Override
+        public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
+            String key = key(request);
+            if (key == null) {
+                return delegate.authenticateBlocking(request);
+            }
+            SecurityIdentity cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            SecurityIdentity identity = delegate.authenticateBlocking(request);
+            put(key, identity);
+            return identity;
+        }
+    }
+}
@@ -246,6 +246,16 @@ public BasicAuthenticationMechanism get() {
         };
     }
 
+    public Supplier<HttpIdentityCache> setupIdentityCache(HttpBuildTimeConfig buildTimeConfig) {
+        return new Supplier<HttpIdentityCache>() {
+            @Override
+            public HttpIdentityCache get() {
+                return new HttpIdentityCache(buildTimeConfig.auth.identityCache.maxSize,
+                        buildTimeConfig.auth.identityCache.timeToLive);
+            }
+        };
+    }
+
     public Supplier<?> setupMtlsClientAuth() {
         return new Supplier<MtlsAuthenticationMechanism>() {
             @Override
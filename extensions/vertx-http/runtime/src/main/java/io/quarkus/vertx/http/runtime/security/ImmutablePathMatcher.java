@@ -0,0 +1,217 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Matches request paths against exact and prefix paths, like {@link PathMatcher}, once all the paths are known.
+ * <p>
+ * An exact path is found with a single lookup. The prefix paths are stored in a tree of path segments, so a request path is
+ * matched with one walk along its segments whatever the number of registered paths. A {@code *} segment, like in
+ * {@code /api/*}{@code /admin}, matches any segment of the request path. When several paths match, an exact path wins over a
+ * prefix path, a longer prefix wins over a shorter one, and a literal segment wins over a {@code *} segment.
+ *
+ * @param <T> the type of the values associated with the paths
+ */
+public final class ImmutablePathMatcher<T> {
+
+    private static final String WILDCARD = "*";
+
+    private final Map<String, T> exactPaths;
+    private final Node<T> root;
+
+    private ImmutablePathMatcher(Map<String, T> exactPaths, Node<T> root) {
+        this.exactPaths = exactPaths;
+        this.root = root;
+    }
+
+    /**
+     * @param path the request path, starting with {@code /}
+     * @return the value of the best matching path, or {@code null} if no path matches
+     */
+    public T match(String path) {
+        T exactMatch = exactPaths.get(path);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+        return match(root, path, path.startsWith("/") ? 1 : 0);
+    }
+
+    /**
+     * @param start the index of the next segment of the path, or {@code -1} if all the segments were matched
+     */
+    private static <T> T match(Node<T> node, String path, int start) {
+        if (start < 0) {
+            return node.exactValue != null ? node.exactValue : node.prefixValue;
+        }
+        int end = path.indexOf('/', start);
+        int next;
+        if (end < 0) {
+            end = path.length();
+            next = -1;
+        } else {
+            next = end + 1;
+        }
+        Node<T> child = node.child(path, start, end);
+        if (child != null) {
+            T match = match(child, path, next);
+            if (match != null) {
+                return match;
+            }
+        }
+        if (node.wildcard != null) {
+            T match = match(node.wildcard, path, next);
+            if (match != null) {
+                return match;
+            }
+        }
+        return node.prefixValue;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+
+        private final Map<String, T> exactPaths = new HashMap<>();
+        private final BuilderNode<T> root = new BuilderNode<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a path which matches itself and all its sub paths. The path {@code /} matches all the paths.
+         */
+        public Builder<T> addPrefixPath(String path, T value) {
+            node(path).prefixValue = value;
+            return this;
+        }
+
+        /**
+         * Registers a path which only matches itself, or the paths matching its {@code *} segments.
+         */
+        public Builder<T> addExactPath(String path, T value) {
+            if (hasWildcardSegment(path)) {
+                node(path).exactValue = value;
+            } else {
+                exactPaths.put(path, value);
+            }
+            return this;
+        }
+
+        public ImmutablePathMatcher<T> build() {
+            return new ImmutablePathMatcher<>(new HashMap<>(exactPaths), root.build());
+        }
+
+        private BuilderNode<T> node(String path) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            BuilderNode<T> node = root;
+            if (path.equals("/")) {
+                return node;
+            }
+            int start = path.startsWith("/") ? 1 : 0;
+            for (;;) {
+                int end = path.indexOf('/', start);
+                String segment = path.substring(start, end < 0 ? path.length() : end);
+                if (segment.equals(WILDCARD)) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new BuilderNode<>();
+                    }
+                    node = node.wildcard;
+                } else {
+                    node = node.children.computeIfAbsent(segment, s -> new BuilderNode<>());
+                }
+                if (end < 0) {
+                    return node;
+                }
+                start = end + 1;
+            }
+        }
+
+        private static boolean hasWildcardSegment(String path) {
+            for (String segment : path.split("/")) {
+                if (segment.equals(WILDCARD)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class BuilderNode<T> {
+
+        // Sorted like the segments of the built node
+        final Map<String, BuilderNode<T>> children = new TreeMap<>();
+        BuilderNode<T> wildcard;
+        T exactValue;
+        T prefixValue;
+
+        @SuppressWarnings("unchecked")
+        Node<T> build() {
+            String[] segments = new String[children.size()];
+            Node<T>[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<String, BuilderNode<T>> child : children.entrySet()) {
+                segments[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node<>(segments, nodes, wildcard == null ? null : wildcard.build(), exactValue, prefixValue);
+        }
+    }
+
+    private static final class Node<T> {
+
+        final String[] segments;
+        final Node<T>[] children;
+        final Node<T> wildcard;
+        final T exactValue;
+        final T prefixValue;
+
+        Node(String[] segments, Node<T>[] children, Node<T> wildcard, T exactValue, T prefixValue) {
+            this.segments = segments;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.exactValue = exactValue;
+            this.prefixValue = prefixValue;
+        }
+
+        /**
+         * Binary search of the segment {@code path[start, end)}, without creating a substring.
+         */
+        Node<T> child(String path, int start, int end) {
+            int low = 0;
+            int high = segments.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(segments[middle], path, start, end);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return children[middle];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compares like {@link String#compareTo(String)}.
+         */
+        private static int compare(String segment, String path, int start, int end) {
+            int length = Math.min(segment.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                int difference = segment.charAt(i) - path.charAt(start + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return segment.length() - (end - start);
+        }
+    }
+}
@@ -27,26 +27,30 @@
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private static final Uni<CheckResult> PERMITTED = Uni.createFrom().item(CheckResult.PERMIT);
+    private static final Uni<CheckResult> DENIED = Uni.createFrom().item(CheckResult.DENY);
+
+    private volatile ImmutablePathMatcher<PathPermissions> pathMatcher = ImmutablePathMatcher.<PathPermissions> builder()
+            .build();
 
     public String getAuthMechanismName(RoutingContext routingContext) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.request().path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+        PathPermissions permissions = pathMatcher.match(routingContext.request().path());
+        return permissions == null ? null : permissions.authMechanism;
     }
 
     @Override
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext) {
-        List<HttpSecurityPolicy> permissionCheckers = findPermissionCheckers(routingContext.request());
-        return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
+        PathPermissions permissions = pathMatcher.match(routingContext.request().path());
+        if (permissions == null) {
+            return PERMITTED;
+        }
+        MethodPermissions methodPermissions = permissions.forMethod(routingContext.request().method().toString());
+        if (methodPermissions.result != null) {
+            // The result is known without running the policies
+            return methodPermissions.result;
+        }
+        return doPermissionCheck(routingContext, identity, 0, null, methodPermissions.policies, requestContext);
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
@@ -114,43 +118,113 @@ void init(HttpBuildTimeConfig config, Map<String, Supplier<HttpSecurityPolicy>>
                         List<HttpMatcher> perms = new ArrayList<>();
                         tempMap.put(path, perms);
                         perms.add(m);
-                        if (path.endsWith("/*")) {
-                            String stripped = path.substring(0, path.length() - 2);
-                            pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                        } else if (path.endsWith("*")) {
-                            pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                        } else {
-                            pathMatcher.addExactPath(path, perms);
-                        }
                     }
                 }
             }
         }
+
+        // The policies of each path and method are resolved once, the requests only look them up
+        ImmutablePathMatcher.Builder<PathPermissions> builder = ImmutablePathMatcher.builder();
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PathPermissions permissions = new PathPermissions(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                builder.addPrefixPath(stripped.isEmpty() ? "/" : stripped, permissions);
+            } else if (path.endsWith("*")) {
+                builder.addPrefixPath(path.substring(0, path.length() - 1), permissions);
+            } else {
+                builder.addExactPath(path, permissions);
+            }
+        }
+        pathMatcher = builder.build();
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathPermissions permissions = pathMatcher.match(request.path());
+        if (permissions == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
+        return permissions.forMethod(request.method().toString()).configuredPolicies;
+    }
+
+    /**
+     * The permissions of a path.
+     */
+    static final class PathPermissions {
+
+        final String authMechanism;
+        final Map<String, MethodPermissions> methods = new HashMap<>();
+        // The permissions of the methods that are not configured
+        final MethodPermissions otherMethods;
+
+        PathPermissions(List<HttpMatcher> matchers) {
+            String authMechanism = null;
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Map<String, List<HttpSecurityPolicy>> methodMatch = new HashMap<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodMatch.computeIfAbsent(method, m -> new ArrayList<>()).add(i.checker);
+                    }
+                }
+            }
+            this.authMechanism = authMechanism;
+            for (Map.Entry<String, List<HttpSecurityPolicy>> entry : methodMatch.entrySet()) {
+                methods.put(entry.getKey(), new MethodPermissions(entry.getValue()));
+            }
+            if (!noMethod.isEmpty()) {
+                otherMethods = new MethodPermissions(noMethod);
+            } else {
+                //we deny if we did not match due to method filtering
+                otherMethods = new MethodPermissions(Collections.singletonList(DenySecurityPolicy.INSTANCE));
             }
         }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+
+        MethodPermissions forMethod(String method) {
+            MethodPermissions permissions = methods.get(method);
+            return permissions != null ? permissions : otherMethods;
         }
+    }
 
+    /**
+     * The policies that apply to a method of a path.
+     */
+    static final class MethodPermissions {
+
+        final List<HttpSecurityPolicy> configuredPolicies;
+        // The policies to run, without the built-in permit policies
+        final List<HttpSecurityPolicy> policies;
+        // The result of the check if it does not depend on the request, null otherwise
+        final Uni<CheckResult> result;
+
+        MethodPermissions(List<HttpSecurityPolicy> configuredPolicies) {
+            this.configuredPolicies = Collections.unmodifiableList(configuredPolicies);
+            List<HttpSecurityPolicy> policies = new ArrayList<>();
+            boolean denied = false;
+            for (HttpSecurityPolicy policy : configuredPolicies) {
+                // Subclasses may override the check, only the built-in policies are known
+                if (policy.getClass() == DenySecurityPolicy.class) {
+                    denied = true;
+                    break;
+                } else if (policy.getClass() != PermitSecurityPolicy.class) {
+                    policies.add(policy);
+                }
+            }
+            this.policies = policies;
+            if (denied) {
+                result = DENIED;
+            } else if (policies.isEmpty()) {
+                result = PERMITTED;
+            } else {
+                result = null;
+            }
+        }
     }
 
     static class HttpMatcher {
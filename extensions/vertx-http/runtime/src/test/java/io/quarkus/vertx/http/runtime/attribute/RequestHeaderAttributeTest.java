@@ -0,0 +1,50 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+class RequestHeaderAttributeTest {
+
+    @Test
+    void shouldAppendSameValueAsRead() {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add("Accept", "text/plain")
+                .add("X-Forwarded-For", "10.0.0.1")
+                .add("x-forwarded-for", "10.0.0.2")
+                .add("Empty", "");
+        RoutingContext exchange = exchange(headers);
+
+        for (String name : new String[] { "Accept", "X-Forwarded-For", "Missing", "Empty" }) {
+            ExchangeAttribute attribute = new SubstituteEmptyWrapper("-").wrap(new RequestHeaderAttribute(name));
+            StringBuilder builder = new StringBuilder("prefix ");
+            attribute.appendAttribute(exchange, builder);
+            assertThat(builder.toString()).isEqualTo("prefix " + attribute.readAttribute(exchange));
+        }
+    }
+
+    @Test
+    void shouldAppendAllValues() {
+        RoutingContext exchange = exchange(MultiMap.caseInsensitiveMultiMap()
+                .add("Accept", "text/plain")
+                .add("accept", "application/json"));
+
+        StringBuilder builder = new StringBuilder();
+        new RequestHeaderAttribute("Accept").appendAttribute(exchange, builder);
+        assertThat(builder.toString()).isEqualTo("[text/plain, application/json]");
+    }
+
+    private static RoutingContext exchange(MultiMap headers) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.headers()).thenReturn(headers);
+        RoutingContext exchange = mock(RoutingContext.class);
+        when(exchange.request()).thenReturn(request);
+        return exchange;
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchedAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void before() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldWriteMessagesInOrder() throws Exception {
+        BatchedAccessLogReceiver receiver = new BatchedAccessLogReceiver(executor, logDirectory, "server", null, true, 0, 16);
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String message = "GET /" + i + " café 😀";
+            messages.add(message);
+            receiver.logMessage(message);
+            if (i % 10 == 0) {
+                receiver.awaitWrittenForTest();
+            }
+        }
+        receiver.awaitWrittenForTest();
+        receiver.close();
+        receiver.awaitWrittenForTest();
+
+        assertThat(Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8))
+                .isEqualTo(messages);
+        assertThat(receiver.getDroppedMessages()).isZero();
+        assertThat(receiver.getBacklog()).isZero();
+    }
+
+    @Test
+    void shouldDropMessagesWhenQueueIsFull() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        BatchedAccessLogReceiver receiver = new BatchedAccessLogReceiver(tasks::add, logDirectory, "server", null, true, 0, 4);
+        for (int i = 0; i < 6; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertThat(receiver.getBacklog()).isEqualTo(4);
+        assertThat(receiver.getDroppedMessages()).isEqualTo(2);
+
+        // The worker was scheduled once
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(receiver.getBacklog()).isZero();
+        assertThat(Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8))
+                .containsExactly("message 0", "message 1", "message 2", "message 3");
+    }
+
+    @Test
+    void shouldRotateBySize() throws Exception {
+        BatchedAccessLogReceiver receiver = new BatchedAccessLogReceiver(executor, logDirectory, "server", ".log", true, 100,
+                16);
+        for (int i = 0; i < 30; i++) {
+            receiver.logMessage("0123456789");
+            receiver.awaitWrittenForTest();
+        }
+        receiver.close();
+        receiver.awaitWrittenForTest();
+
+        assertThat(listFiles()).hasSizeGreaterThan(1).contains("server.log");
+        long lines = 0;
+        for (String file : listFiles()) {
+            List<String> fileLines = Files.readAllLines(logDirectory.resolve(file));
+            // A file is rotated once it reached the size, before the next write
+            assertThat(fileLines.size()).isLessThanOrEqualTo(10);
+            lines += fileLines.size();
+        }
+        assertThat(lines).isEqualTo(30);
+    }
+
+    @Test
+    void shouldAllocateSlotBuffersLazily() throws Exception {
+        BatchedAccessLogReceiver receiver = new BatchedAccessLogReceiver(executor, logDirectory, "server", null, true, 0,
+                1024);
+        assertThat(receiver.getRetainedBytesForTest()).isZero();
+
+        String large = "x".repeat(BatchedAccessLogReceiver.MAX_RETAINED_SLOT_SIZE * 4);
+        receiver.logMessage("small");
+        receiver.logMessage(large);
+        receiver.logMessage("é".repeat(1000));
+        receiver.awaitWrittenForTest();
+        receiver.close();
+        receiver.awaitWrittenForTest();
+
+        // The buffer of the large message is released, the other slots keep a buffer rounded up to a power of two
+        assertThat(receiver.getRetainedBytesForTest()).isEqualTo(256 + 2048);
+        assertThat(Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8))
+                .containsExactly("small", large, "é".repeat(1000));
+    }
+
+    @Test
+    void shouldComputeUtf8Length() {
+        for (String message : List.of("", "GET /", "café", "€", "😀", "a\uD800b", "\uDC00", "\uD83D")) {
+            ByteBuffer buffer = ByteBuffer.allocate(message.length() * 3);
+            BatchedAccessLogReceiver.encodeUtf8(message, buffer);
+            assertThat(BatchedAccessLogReceiver.utf8Length(message)).as(message).isEqualTo(buffer.position());
+        }
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AnonymousAuthenticationRequest;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+
+class HttpIdentityCacheTest {
+
+    AtomicLong now = new AtomicLong(1_000_000);
+    IdentityProviderManager delegate;
+    HttpIdentityCache cache;
+    IdentityProviderManager manager;
+
+    @BeforeEach
+    void before() {
+        delegate = mock(IdentityProviderManager.class);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            AuthenticationRequest request = invocation.getArgument(0);
+            if (request instanceof UsernamePasswordAuthenticationRequest) {
+                return Uni.createFrom().item(identity(((UsernamePasswordAuthenticationRequest) request).getUsername()));
+            }
+            return Uni.createFrom().item(identity("token"));
+        });
+        cache = new HttpIdentityCache(2, Duration.ofSeconds(60), now::get);
+        manager = cache.wrap(delegate);
+    }
+
+    @Test
+    void shouldCacheSameCredentials() {
+        SecurityIdentity identity = authenticate("alice", "secret");
+        assertThat(authenticate("alice", "secret")).isSameAs(identity);
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+
+        // Another password is verified again
+        assertThat(authenticate("alice", "other")).isNotSameAs(identity);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldExpireIdentities() {
+        SecurityIdentity identity = authenticate("alice", "secret");
+        now.addAndGet(59_999);
+        assertThat(authenticate("alice", "secret")).isSameAs(identity);
+        now.addAndGet(1);
+        assertThat(authenticate("alice", "secret")).isNotSameAs(identity);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldNotCacheAfterIdentityExpireTime() {
+        SecurityIdentity expiring = identity("token");
+        when(expiring.getAttribute(HttpIdentityCache.EXPIRE_TIME_ATTRIBUTE)).thenReturn(now.get() / 1000 + 10);
+        when(delegate.authenticate(any())).thenReturn(Uni.createFrom().item(expiring));
+
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential("abc", "bearer"));
+        manager.authenticate(request).await().indefinitely();
+        now.addAndGet(9_999);
+        manager.authenticate(request).await().indefinitely();
+        now.addAndGet(1);
+        manager.authenticate(request).await().indefinitely();
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldInvalidateIdentities() {
+        authenticate("alice", "secret");
+        authenticate("bob", "secret");
+        cache.invalidate("alice");
+        assertThat(cache.size()).isEqualTo(1);
+        authenticate("alice", "secret");
+        authenticate("bob", "secret");
+        verify(delegate, times(3)).authenticate(any());
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldBoundSize() {
+        authenticate("alice", "secret");
+        authenticate("bob", "secret");
+        authenticate("carol", "secret");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        SecurityIdentity alice = authenticate("alice", "secret");
+        authenticate("bob", "secret");
+        assertThat(authenticate("alice", "secret")).isSameAs(alice);
+        authenticate("carol", "secret");
+
+        // Bob was used less recently than Alice
+        assertThat(authenticate("alice", "secret")).isSameAs(alice);
+        authenticate("bob", "secret");
+        verify(delegate, times(4)).authenticate(any());
+    }
+
+    @Test
+    void shouldNotCacheOtherRequests() {
+        manager.authenticate(AnonymousAuthenticationRequest.INSTANCE).await().indefinitely();
+        manager.authenticate(AnonymousAuthenticationRequest.INSTANCE).await().indefinitely();
+        verify(delegate, times(2)).authenticate(any());
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheIdentityHoldingRoutingContext() {
+        SecurityIdentity identity = identity("alice");
+        when(identity.getAttributes()).thenReturn(Map.of(RoutingContext.class.getName(), mock(RoutingContext.class)));
+        when(delegate.authenticate(any())).thenReturn(Uni.createFrom().item(identity));
+
+        authenticate("alice", "secret");
+        authenticate("alice", "secret");
+        verify(delegate, times(2)).authenticate(any());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheTokenSubclasses() {
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential("abc", "bearer") {
+        });
+        manager.authenticate(request).await().indefinitely();
+        manager.authenticate(request).await().indefinitely();
+        verify(delegate, times(2)).authenticate(any());
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    private SecurityIdentity authenticate(String username, String password) {
+        return manager.authenticate(new UsernamePasswordAuthenticationRequest(username,
+                new PasswordCredential(password.toCharArray()))).await().indefinitely();
+    }
+
+    private static SecurityIdentity identity(String name) {
+        SecurityIdentity identity = mock(SecurityIdentity.class);
+        when(identity.getPrincipal()).thenReturn(() -> name);
+        return identity;
+    }
+}
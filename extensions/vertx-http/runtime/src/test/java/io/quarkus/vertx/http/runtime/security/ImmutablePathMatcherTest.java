@@ -0,0 +1,61 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ImmutablePathMatcherTest {
+
+    @Test
+    void shouldPreferExactThenLongestPrefix() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addPrefixPath("/", "root")
+                .addPrefixPath("/api", "api")
+                .addPrefixPath("/api/public", "public")
+                .addExactPath("/api/public/secret", "secret")
+                .build();
+
+        assertThat(matcher.match("/")).isEqualTo("root");
+        assertThat(matcher.match("/other")).isEqualTo("root");
+        assertThat(matcher.match("/api")).isEqualTo("api");
+        assertThat(matcher.match("/api/")).isEqualTo("api");
+        assertThat(matcher.match("/apis")).isEqualTo("root");
+        assertThat(matcher.match("/api/users/1")).isEqualTo("api");
+        assertThat(matcher.match("/api/public")).isEqualTo("public");
+        assertThat(matcher.match("/api/publicity")).isEqualTo("api");
+        assertThat(matcher.match("/api/public/index.html")).isEqualTo("public");
+        assertThat(matcher.match("/api/public/secret")).isEqualTo("secret");
+        assertThat(matcher.match("/api/public/secret/more")).isEqualTo("public");
+    }
+
+    @Test
+    void shouldNotMatchWithoutRootPrefix() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addPrefixPath("/api", "api")
+                .addExactPath("/health", "health")
+                .build();
+
+        assertThat(matcher.match("/")).isNull();
+        assertThat(matcher.match("/health/live")).isNull();
+        assertThat(matcher.match("/health")).isEqualTo("health");
+    }
+
+    @Test
+    void shouldMatchInnerWildcards() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addPrefixPath("/api", "api")
+                .addPrefixPath("/api/*/admin", "admin")
+                .addPrefixPath("/api/v1/admin/public", "public")
+                .addExactPath("/api/*/status", "status")
+                .build();
+
+        assertThat(matcher.match("/api/v1/admin")).isEqualTo("admin");
+        assertThat(matcher.match("/api/v2/admin/users")).isEqualTo("admin");
+        assertThat(matcher.match("/api/v1/admin/public/index.html")).isEqualTo("public");
+        // A literal segment does not prevent a match through a wildcard
+        assertThat(matcher.match("/api/v1/admin/users")).isEqualTo("admin");
+        assertThat(matcher.match("/api/v1/users")).isEqualTo("api");
+        assertThat(matcher.match("/api/v1/status")).isEqualTo("status");
+        assertThat(matcher.match("/api/v1/status/details")).isEqualTo("api");
+    }
+}
@@ -2,6 +2,7 @@
 
 import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe;
 import static io.smallrye.common.vertx.VertxContext.getOrCreateDuplicatedContext;
+import static io.smallrye.common.vertx.VertxContext.isDuplicatedContext;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -11,6 +12,7 @@
 
 import org.jboss.logmanager.MDCProvider;
 
+import io.quarkus.vertx.core.runtime.context.DuplicatedContextSlots;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.ContextInternal;
@@ -304,8 +306,17 @@ private Map<String, Object> contextualDataMap(Context ctx) {
             return inheritableThreadLocalMap.get();
         }
 
-        ConcurrentMap<Object, Object> lcd = Objects.requireNonNull((ContextInternal) ctx).localContextData();
-        return (ConcurrentMap<String, Object>) lcd.computeIfAbsent(VertxMDC.class.getName(),
-                k -> new ConcurrentHashMap<String, Object>());
+        if (!isDuplicatedContext(ctx)) {
+            // slots are only stored in duplicated contexts, a root context given by the caller keeps its own entry
+            ConcurrentMap<Object, Object> lcd = Objects.requireNonNull((ContextInternal) ctx).localContextData();
+            return (ConcurrentMap<String, Object>) lcd.computeIfAbsent(VertxMDC.class.getName(),
+                    k -> new ConcurrentHashMap<String, Object>());
+        }
+        Map<String, Object> map = DuplicatedContextSlots.get(ctx, DuplicatedContextSlots.MDC);
+        if (map == null) {
+            map = new ConcurrentHashMap<>();
+            DuplicatedContextSlots.put(ctx, DuplicatedContextSlots.MDC, map);
+        }
+        return map;
     }
 }
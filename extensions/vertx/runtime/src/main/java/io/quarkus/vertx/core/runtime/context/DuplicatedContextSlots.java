@@ -0,0 +1,111 @@
+package io.quarkus.vertx.core.runtime.context;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Indexed storage for the values that Quarkus keeps in a duplicated {@link Context}.
+ * <p>
+ * Each component owns a slot, and all the slots of a context are kept in a single array stored under one key of the local
+ * data of the context. Reading or writing a slot costs a single lookup in the local data, however many components store
+ * a value, and storing a value does not allocate once the array exists.
+ * <p>
+ * The slots of the built-in components are constants. Other components reserve a slot with {@link #reserveSlot()}, once,
+ * typically in a static initializer, or with {@link #reserveSlot(String)} if they may be created again, for example by a
+ * dev mode reload.
+ * <p>
+ * A duplicated context is not shared, it is used by one thread at a time, so the array is not synchronized. The hand-off
+ * of a context between threads (for example from the event loop to a worker thread) provides the visibility of the
+ * values.
+ */
+public final class DuplicatedContextSlots {
+
+    /**
+     * The state of the ArC request context.
+     */
+    public static final int ARC_REQUEST_CONTEXT = 0;
+    /**
+     * The MDC map of {@link io.quarkus.vertx.core.runtime.VertxMDC}.
+     */
+    public static final int MDC = 1;
+    /**
+     * The current OpenTelemetry context.
+     */
+    public static final int OPENTELEMETRY_CONTEXT = 2;
+
+    private static final int BUILT_IN_SLOTS = 3;
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger(BUILT_IN_SLOTS);
+
+    private static final ConcurrentMap<String, Integer> NAMED_SLOTS = new ConcurrentHashMap<>();
+
+    private static final Object SLOTS_KEY = new Object();
+
+    private DuplicatedContextSlots() {
+    }
+
+    /**
+     * @return a new slot, that no other component uses
+     */
+    public static int reserveSlot() {
+        return NEXT_SLOT.getAndIncrement();
+    }
+
+    /**
+     * @param name the name of the component
+     * @return the slot of the component, reserved by the first call with this name
+     */
+    public static int reserveSlot(String name) {
+        Integer slot = NAMED_SLOTS.get(name);
+        if (slot == null) {
+            Integer reserved = reserveSlot();
+            slot = NAMED_SLOTS.putIfAbsent(name, reserved);
+            if (slot == null) {
+                slot = reserved;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * @param context a duplicated context
+     * @param slot the slot
+     * @return the value stored in the slot of the context, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Context context, int slot) {
+        Object[] slots = (Object[]) ((ContextInternal) context).localContextData().get(SLOTS_KEY);
+        return slots != null && slot < slots.length ? (T) slots[slot] : null;
+    }
+
+    /**
+     * @param context a duplicated context
+     * @param slot the slot
+     * @param value the value, or {@code null} to clear the slot
+     */
+    public static void put(Context context, int slot, Object value) {
+        ContextInternal contextInternal = (ContextInternal) context;
+        Object[] slots = (Object[]) contextInternal.localContextData().get(SLOTS_KEY);
+        if (slots == null || slot >= slots.length) {
+            if (value == null) {
+                return;
+            }
+            if (!VertxContext.isDuplicatedContext(context)) {
+                throw new IllegalArgumentException("Slots can only be stored in a duplicated context");
+            }
+            slots = grow(slots, slot);
+            contextInternal.localContextData().put(SLOTS_KEY, slots);
+        }
+        slots[slot] = value;
+    }
+
+    private static Object[] grow(Object[] slots, int slot) {
+        int length = Math.max(slot + 1, NEXT_SLOT.get());
+        return slots == null ? new Object[length] : Arrays.copyOf(slots, length);
+    }
+}
@@ -2,11 +2,15 @@
 
 import java.lang.annotation.Annotation;
 
+import javax.enterprise.context.RequestScoped;
+
 import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
 import io.quarkus.arc.CurrentContext;
 import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.vertx.core.runtime.context.DuplicatedContextSlots;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.core.Context;
@@ -16,20 +20,29 @@ public class VertxCurrentContextFactory implements CurrentContextFactory {
 
     @Override
     public <T extends InjectableContext.ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
-        return new VertxCurrentContext<>();
+        // the factory is created again by each dev mode reload, so the slot of a scope is looked up by its name
+        return new VertxCurrentContext<>(RequestScoped.class.equals(scope) ? DuplicatedContextSlots.ARC_REQUEST_CONTEXT
+                : DuplicatedContextSlots.reserveSlot(scope.getName()));
     }
 
     private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
 
-        private final FastThreadLocal<T> fallback = new FastThreadLocal<>();
+        private final int slot;
+        // FastThreadLocal attaches a map to every thread that is not a Netty thread, which is wasteful for virtual threads
+        private final FastThreadLocal<T> fastFallback = new FastThreadLocal<>();
+        private final ThreadLocal<T> fallback = new ThreadLocal<>();
+
+        VertxCurrentContext(int slot) {
+            this.slot = slot;
+        }
 
         @Override
         public T get() {
             Context context = Vertx.currentContext();
             if (context != null && VertxContext.isDuplicatedContext(context)) {
-                return context.getLocal(this);
+                return DuplicatedContextSlots.get(context, slot);
             }
-            return fallback.get();
+            return Thread.currentThread() instanceof FastThreadLocalThread ? fastFallback.get() : fallback.get();
         }
 
         @Override
@@ -37,7 +50,9 @@ public void set(T state) {
             Context context = Vertx.currentContext();
             if (context != null && VertxContext.isDuplicatedContext(context)) {
                 VertxContextSafetyToggle.setContextSafe(context, true);
-                context.putLocal(this, state);
+                DuplicatedContextSlots.put(context, slot, state);
+            } else if (Thread.currentThread() instanceof FastThreadLocalThread) {
+                fastFallback.set(state);
             } else {
                 fallback.set(state);
             }
@@ -49,6 +64,8 @@ public void remove() {
             if (context != null && VertxContext.isDuplicatedContext(context)) {
                 // NOOP - the DC should not be shared.
                 //                context.removeLocal(this);
+            } else if (Thread.currentThread() instanceof FastThreadLocalThread) {
+                fastFallback.remove();
             } else {
                 fallback.remove();
             }
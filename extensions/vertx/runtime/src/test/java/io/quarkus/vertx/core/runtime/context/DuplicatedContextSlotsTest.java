@@ -0,0 +1,88 @@
+package io.quarkus.vertx.core.runtime.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.core.runtime.VertxMDC;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class DuplicatedContextSlotsTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    public void testSlotsAreIsolated() {
+        Context root = vertx.getOrCreateContext();
+        Context first = VertxContext.createNewDuplicatedContext(root);
+        Context second = VertxContext.createNewDuplicatedContext(root);
+
+        DuplicatedContextSlots.put(first, DuplicatedContextSlots.MDC, "mdc");
+        DuplicatedContextSlots.put(first, DuplicatedContextSlots.OPENTELEMETRY_CONTEXT, "otel");
+
+        assertEquals("mdc", DuplicatedContextSlots.get(first, DuplicatedContextSlots.MDC));
+        assertEquals("otel", DuplicatedContextSlots.get(first, DuplicatedContextSlots.OPENTELEMETRY_CONTEXT));
+        assertNull(DuplicatedContextSlots.get(first, DuplicatedContextSlots.ARC_REQUEST_CONTEXT));
+        assertNull(DuplicatedContextSlots.get(second, DuplicatedContextSlots.MDC));
+
+        DuplicatedContextSlots.put(first, DuplicatedContextSlots.MDC, null);
+        assertNull(DuplicatedContextSlots.get(first, DuplicatedContextSlots.MDC));
+    }
+
+    @Test
+    public void testReservedSlot() {
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        DuplicatedContextSlots.put(context, DuplicatedContextSlots.MDC, "mdc");
+
+        // the array of the context grows for slots reserved after it was created
+        int slot = DuplicatedContextSlots.reserveSlot();
+        assertNull(DuplicatedContextSlots.get(context, slot));
+        DuplicatedContextSlots.put(context, slot, "reserved");
+        assertEquals("reserved", DuplicatedContextSlots.get(context, slot));
+        assertEquals("mdc", DuplicatedContextSlots.get(context, DuplicatedContextSlots.MDC));
+    }
+
+    @Test
+    public void testRootContextIsRejected() {
+        Context root = vertx.getOrCreateContext();
+        assertThrows(IllegalArgumentException.class,
+                () -> DuplicatedContextSlots.put(root, DuplicatedContextSlots.MDC, "mdc"));
+        assertNull(DuplicatedContextSlots.get(root, DuplicatedContextSlots.MDC));
+    }
+
+    @Test
+    public void testNamedSlotIsReservedOnce() {
+        int slot = DuplicatedContextSlots.reserveSlot("test.Scope");
+        assertEquals(slot, DuplicatedContextSlots.reserveSlot("test.Scope"));
+        assertNotEquals(slot, DuplicatedContextSlots.reserveSlot("test.OtherScope"));
+    }
+
+    @Test
+    public void testMdcOfRootContext() {
+        Context root = vertx.getOrCreateContext();
+        VertxMDC.INSTANCE.put("key", "root", root);
+        assertEquals("root", VertxMDC.INSTANCE.get("key", root));
+
+        Context duplicated = VertxContext.createNewDuplicatedContext(root);
+        VertxMDC.INSTANCE.put("key", "duplicated", duplicated);
+        assertEquals("duplicated", VertxMDC.INSTANCE.get("key", duplicated));
+        assertEquals("root", VertxMDC.INSTANCE.get("key", root));
+    }
+}
@@ -158,11 +158,18 @@ Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<Be
                     getComponents.load(entry.getKey().toString()), nonbindingMembers);
         }
 
+        // Request scoped beans, the position of a bean is its index in the request context
+        ResultHandle requestScopedBeans = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+        for (String identifier : getRequestScopedBeans(beanDeployment)) {
+            getComponents.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, requestScopedBeans,
+                    getComponents.load(identifier));
+        }
+
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class, Supplier.class, Map.class, Set.class),
+                        Map.class, Supplier.class, Map.class, Set.class, List.class),
                 beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, removedBeansSupplier.getInstance(),
-                qualifiersNonbindingMembers, qualifiers);
+                qualifiersNonbindingMembers, qualifiers, requestScopedBeans);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -290,6 +297,15 @@ private void processRemovedBeans(ClassCreator componentsProvider, BytecodeCreato
         }
     }
 
+    private List<String> getRequestScopedBeans(BeanDeployment beanDeployment) {
+        // Sorted so that the generated bytecode is reproducible
+        return beanDeployment.getBeans().stream()
+                .filter(bean -> BuiltinScope.REQUEST.is(bean.getScope()))
+                .map(BeanInfo::getIdentifier)
+                .sorted()
+                .collect(toList());
+    }
+
     private Map<BeanInfo, List<BeanInfo>> initBeanToInjections(BeanDeployment beanDeployment) {
         Function<BeanInfo, List<BeanInfo>> computeNewArrayFun = new Function<BeanInfo, List<BeanInfo>>() {
 
@@ -225,7 +225,17 @@ Collection<Resource> generate(ObserverInfo observer) {
         }
 
         implementGetBeanClass(observerCreator, observer.getBeanClass());
-        implementNotify(observer, observerCreator, injectionPointToProviderField, reflectionRegistration, isApplicationClass);
+        if (!observer.isSynthetic() && observer.getEventMetadataParameterPosition() == -1
+                && !Modifier.isPrivate(observer.getObserverMethod().flags())) {
+            // The observer does not need the EventContext, let the container notify it with the event directly
+            implementNotify(observer, observerCreator, injectionPointToProviderField, reflectionRegistration,
+                    isApplicationClass, false);
+            implementNotifyWithEventContext(observerCreator);
+            implementIsEventContextRequired(observerCreator);
+        } else {
+            implementNotify(observer, observerCreator, injectionPointToProviderField, reflectionRegistration,
+                    isApplicationClass);
+        }
         if (observer.getPriority() != ObserverMethod.DEFAULT_PRIORITY) {
             implementGetPriority(observerCreator, observer);
         }
@@ -325,11 +335,43 @@ protected void implementToString(ClassCreator observerCreator, ObserverInfo obse
         toString.returnValue(toString.load(val.toString()));
     }
 
+    protected void implementIsEventContextRequired(ClassCreator observerCreator) {
+        MethodCreator isEventContextRequired = observerCreator.getMethodCreator("isEventContextRequired", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isEventContextRequired.returnValue(isEventContextRequired.load(false));
+    }
+
+    /**
+     * Implements {@code notify(EventContext)} so that it delegates to {@code notify(Object)}.
+     */
+    protected void implementNotifyWithEventContext(ClassCreator observerCreator) {
+        MethodCreator notify = observerCreator.getMethodCreator("notify", void.class, EventContext.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle event = notify.invokeInterfaceMethod(MethodDescriptors.EVENT_CONTEXT_GET_EVENT,
+                notify.getMethodParam(0));
+        notify.invokeVirtualMethod(MethodDescriptor.ofMethod(observerCreator.getClassName(), "notify", void.class,
+                Object.class), notify.getThis(), event);
+        notify.returnValue(null);
+    }
+
     protected void implementNotify(ObserverInfo observer, ClassCreator observerCreator,
             Map<InjectionPointInfo, String> injectionPointToProviderField,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
+        implementNotify(observer, observerCreator, injectionPointToProviderField, reflectionRegistration,
+                isApplicationClass, true);
+    }
 
-        MethodCreator notify = observerCreator.getMethodCreator("notify", void.class, EventContext.class)
+    /**
+     *
+     * @param withEventContext if {@code true} then {@code notify(EventContext)} is implemented, otherwise
+     *        {@code notify(Object)} which receives the event directly
+     */
+    private void implementNotify(ObserverInfo observer, ClassCreator observerCreator,
+            Map<InjectionPointInfo, String> injectionPointToProviderField,
+            ReflectionRegistration reflectionRegistration, boolean isApplicationClass, boolean withEventContext) {
+
+        MethodCreator notify = observerCreator
+                .getMethodCreator("notify", void.class, withEventContext ? EventContext.class : Object.class)
                 .setModifiers(ACC_PUBLIC);
 
         if (mockable) {
@@ -425,8 +467,9 @@ protected void implementNotify(ObserverInfo observer, ClassCreator observerCreat
         Iterator<InjectionPointInfo> injectionPointsIterator = observer.getInjection().injectionPoints.iterator();
         for (int i = 0; i < observer.getObserverMethod().parametersCount(); i++) {
             if (i == eventParamPosition) {
-                referenceHandles[i] = notify.invokeInterfaceMethod(MethodDescriptors.EVENT_CONTEXT_GET_EVENT,
-                        notify.getMethodParam(0));
+                referenceHandles[i] = withEventContext
+                        ? notify.invokeInterfaceMethod(MethodDescriptors.EVENT_CONTEXT_GET_EVENT, notify.getMethodParam(0))
+                        : notify.getMethodParam(0);
             } else if (i == observer.getEventMetadataParameterPosition()) {
                 referenceHandles[i] = notify.invokeInterfaceMethod(MethodDescriptors.EVENT_CONTEXT_GET_METADATA,
                         notify.getMethodParam(0));
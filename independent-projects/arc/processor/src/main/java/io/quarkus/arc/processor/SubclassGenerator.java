@@ -80,6 +80,8 @@ public class SubclassGenerator extends AbstractGenerator {
             List.class);
     protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(InterceptedMethodMetadata.class,
             "bindings", Set.class);
+    protected static final FieldDescriptor FIELD_METADATA_FORWARD = FieldDescriptor.of(InterceptedMethodMetadata.class,
+            "aroundInvokeForward", Function.class);
 
     private final Predicate<DotName> applicationClassPredicate;
     private final Set<String> existingClasses;
@@ -334,10 +336,15 @@ public ResultHandle apply(List<InterceptorInfo> interceptors) {
                 ResultHandle bindingsHandle = bindings.computeIfAbsent(
                         interception.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+                // 4. Forwarding function
+                // The function is created once for the bean instance, not for each invocation
+                ResultHandle forwardHandle = createForwardingFunction(constructor, method, subclass, forwardDescriptor,
+                        decoration != null ? decoration.decorators.get(0) : null);
+
                 // Now create metadata for the given intercepted method
                 ResultHandle methodMetadataHandle = constructor.newInstance(
                         MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                        chainHandle, methodHandle, bindingsHandle);
+                        chainHandle, methodHandle, bindingsHandle, forwardHandle);
 
                 constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(), methodMetadataHandle);
 
@@ -346,8 +353,7 @@ public ResultHandle apply(List<InterceptorInfo> interceptors) {
 
                 // Finally create the intercepted method
                 createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
-                        metadataField.getFieldDescriptor(), constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                        metadataField.getFieldDescriptor(), constructedField.getFieldDescriptor(), forwardDescriptor);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -662,49 +668,20 @@ private MethodDescriptor createForwardingMethod(ClassCreator subclass, String pr
         return forwardDescriptor;
     }
 
-    private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
-            String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, ClassCreator subclass,
             MethodDescriptor forwardMethod, DecoratorInfo decorator) {
-
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
-        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
-
-        // Params
-        // Object[] params = new Object[] {p1}
         List<Type> parameters = method.parameterTypes();
-        ResultHandle paramsHandle;
-        if (parameters.isEmpty()) {
-            paramsHandle = interceptedMethod.loadNull();
-        } else {
-            paramsHandle = interceptedMethod.newArray(Object.class,
-                    interceptedMethod.load(parameters.size()));
-            for (int i = 0; i < parameters.size(); i++) {
-                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
-            }
-        }
-
-        // Delegate to super class if not constructed yet
-        BytecodeCreator notConstructed = interceptedMethod
-                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
-        ResultHandle[] params = new ResultHandle[parameters.size()];
-        for (int i = 0; i < parameters.size(); ++i) {
-            params[i] = notConstructed.getMethodParam(i);
-        }
-        if (Modifier.isAbstract(method.flags())) {
-            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
-        } else {
-            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
-        }
 
         ResultHandle decoratorHandle = null;
         if (decorator != null) {
-            decoratorHandle = interceptedMethod.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
-                    decorator.getIdentifier(), Object.class.getName()), interceptedMethod.getThis());
+            // The decorator field is already set
+            decoratorHandle = constructor.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
+                    decorator.getIdentifier(), Object.class.getName()), constructor.getThis());
         }
 
-        // Forwarding function
         // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = interceptedMethod.createFunction(Function.class);
+        FunctionCreator func = constructor.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles;
@@ -737,10 +714,47 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
                     .returnValue(funcBytecode.invokeVirtualMethod(methodDescriptor, funDecoratorInstance, superParamHandles));
 
         } else {
-            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, interceptedMethod.getThis(),
+            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, constructor.getThis(),
                     superParamHandles);
             funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
+        return func.getInstance();
+    }
+
+    private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
+            String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
+            MethodDescriptor forwardMethod) {
+
+        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
+        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
+
+        List<Type> parameters = method.parameterTypes();
+
+        // Delegate to super class if not constructed yet
+        BytecodeCreator notConstructed = interceptedMethod
+                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
+        ResultHandle[] params = new ResultHandle[parameters.size()];
+        for (int i = 0; i < parameters.size(); ++i) {
+            params[i] = notConstructed.getMethodParam(i);
+        }
+        if (Modifier.isAbstract(method.flags())) {
+            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
+        } else {
+            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
+        }
+
+        // Params
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle;
+        if (parameters.isEmpty()) {
+            paramsHandle = interceptedMethod.loadNull();
+        } else {
+            paramsHandle = interceptedMethod.newArray(Object.class,
+                    interceptedMethod.load(parameters.size()));
+            for (int i = 0; i < parameters.size(); i++) {
+                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
+            }
+        }
 
         for (Type declaredException : method.exceptions()) {
             interceptedMethod.addException(declaredException.name().toString());
@@ -785,7 +799,8 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                tryCatch.readInstanceField(FIELD_METADATA_FORWARD, methodMetadataHandle), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
         tryCatch.returnValue(ret);
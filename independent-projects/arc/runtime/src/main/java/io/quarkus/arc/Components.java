@@ -2,6 +2,8 @@
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -15,12 +17,22 @@ public final class Components {
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Map<String, Set<String>> qualifierNonbindingMembers;
     private final Set<String> qualifiers;
+    private final List<String> requestScopedBeans;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
             Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
             Set<String> qualifiers) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, qualifierNonbindingMembers, qualifiers,
+                Collections.emptyList());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers, List<String> requestScopedBeans) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
@@ -28,6 +40,7 @@ public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObse
         this.removedBeans = removedBeans;
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
         this.qualifiers = qualifiers;
+        this.requestScopedBeans = requestScopedBeans;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -68,4 +81,14 @@ public Set<String> getQualifiers() {
         return qualifiers;
     }
 
+    /**
+     * The position of a bean in this list is its index in the storage of the request context.
+     *
+     * @return the identifiers of all {@link javax.enterprise.context.RequestScoped} beans
+     * @see InjectableBean#getIdentifier()
+     */
+    public List<String> getRequestScopedBeans() {
+        return requestScopedBeans;
+    }
+
 }
@@ -6,6 +6,8 @@
 
 import javax.enterprise.event.Reception;
 import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.spi.EventContext;
+import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
 
 /**
@@ -39,6 +41,16 @@ default TransactionPhase getTransactionPhase() {
      */
     String getDeclaringBeanIdentifier();
 
+    /**
+     * An observer that does not need the {@link EventContext}, i.e. that does not declare an {@link EventMetadata}
+     * parameter, may be notified with {@link #notify(Object)}, so that no context is created for the event.
+     *
+     * @return {@code true} if the observer must be notified with {@link #notify(EventContext)}
+     */
+    default boolean isEventContextRequired() {
+        return true;
+    }
+
     static int compare(InjectableObserverMethod<?> o1, InjectableObserverMethod<?> o2) {
         return Integer.compare(o1.getPriority(), o2.getPriority());
     }
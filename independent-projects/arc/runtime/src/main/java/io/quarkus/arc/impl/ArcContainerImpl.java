@@ -109,6 +109,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
         Set<String> qualifiers = new HashSet<>();
+        Map<String, Integer> requestScopedBeans = new HashMap<>();
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
 
@@ -132,6 +133,9 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
+            for (String identifier : c.getRequestScopedBeans()) {
+                requestScopedBeans.putIfAbsent(identifier, requestScopedBeans.size());
+            }
         }
 
         // register built-in beans
@@ -172,7 +176,8 @@ public List<RemovedBean> get() {
                 new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                         notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE))),
+                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
+                        requestScopedBeans),
                 new ApplicationContext(),
                 new SingletonContext());
 
@@ -1,8 +1,9 @@
 package io.quarkus.arc.impl;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import javax.enterprise.context.spi.Contextual;
@@ -20,9 +21,18 @@
  */
 public class CreationalContextImpl<T> implements CreationalContext<T>, Function<Contextual<T>, CreationalContext<T>> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, DependentInstance> DEPENDENTS_UPDATER;
+
+    static {
+        DEPENDENTS_UPDATER = AtomicReferenceFieldUpdater.newUpdater(CreationalContextImpl.class, DependentInstance.class,
+                "dependentInstances");
+    }
+
     private final Contextual<T> contextual;
     private final CreationalContextImpl<?> parent;
-    private List<InstanceHandle<?>> dependentInstances;
+    // A lock-free stack, the most recently added instance is the head
+    private volatile DependentInstance dependentInstances;
 
     public CreationalContextImpl(Contextual<T> contextual) {
         this(contextual, null);
@@ -31,41 +41,65 @@ public CreationalContextImpl(Contextual<T> contextual) {
     public CreationalContextImpl(Contextual<T> contextual, CreationalContextImpl<?> parent) {
         this.contextual = contextual;
         this.parent = parent;
-        this.dependentInstances = null;
     }
 
     public <I> void addDependentInstance(InjectableBean<I> bean, I instance, CreationalContext<I> ctx) {
         addDependentInstance(new EagerInstanceHandle<I>(bean, instance, ctx));
     }
 
-    public synchronized <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
-        if (dependentInstances == null) {
-            dependentInstances = new ArrayList<>();
-        }
-        dependentInstances.add(instanceHandle);
+    public <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
+        DependentInstance dependentInstance = new DependentInstance(instanceHandle);
+        DependentInstance head;
+        do {
+            head = dependentInstances;
+            dependentInstance.next = head;
+        } while (!DEPENDENTS_UPDATER.compareAndSet(this, head, dependentInstance));
     }
 
-    public synchronized boolean hasDependentInstances() {
-        return dependentInstances != null && !dependentInstances.isEmpty();
+    public boolean hasDependentInstances() {
+        for (DependentInstance current = dependentInstances; current != null; current = current.next) {
+            if (!current.isRemoved()) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public synchronized boolean removeDependentInstance(Object dependentInstance, boolean destroy) {
-        if (dependentInstances != null) {
-            for (Iterator<InstanceHandle<?>> it = dependentInstances.iterator(); it.hasNext();) {
-                InstanceHandle<?> handle = it.next();
-                // The reference equality is used on purpose!
-                if (handle.get() == dependentInstance) {
-                    if (destroy) {
-                        handle.destroy();
-                    }
-                    it.remove();
-                    return true;
+    public boolean removeDependentInstance(Object dependentInstance, boolean destroy) {
+        DependentInstance previous = null;
+        for (DependentInstance current = dependentInstances; current != null; current = current.next) {
+            // The reference equality is used on purpose!
+            if (current.handle.get() == dependentInstance && current.remove()) {
+                unlink(previous, current);
+                if (destroy) {
+                    current.handle.destroy();
                 }
+                return true;
             }
+            previous = current;
         }
         return false;
     }
 
+    private void unlink(DependentInstance previous, DependentInstance removed) {
+        // Unlinking is best effort - a removed instance that is still reachable is skipped and released with this context
+        if (previous == null && DEPENDENTS_UPDATER.compareAndSet(this, removed, removed.next)) {
+            return;
+        }
+        if (previous == null) {
+            // An instance was added concurrently
+            for (DependentInstance current = dependentInstances; current != null; current = current.next) {
+                if (current.next == removed) {
+                    previous = current;
+                    break;
+                }
+            }
+        }
+        if (previous != null) {
+            previous.next = removed.next;
+        }
+    }
+
     @Override
     public void push(T incompleteInstance) {
         // No-op
@@ -73,11 +107,25 @@ public void push(T incompleteInstance) {
 
     @Override
     public void release() {
-        synchronized (this) {
-            if (dependentInstances != null) {
-                for (InstanceHandle<?> instance : dependentInstances) {
-                    instance.destroy();
-                }
+        DependentInstance head = dependentInstances;
+        if (head == null) {
+            return;
+        }
+        if (head.next == null) {
+            if (head.remove()) {
+                head.handle.destroy();
+            }
+            return;
+        }
+        // Destroy the instances in the order they were added
+        List<DependentInstance> instances = new ArrayList<>();
+        for (DependentInstance current = head; current != null; current = current.next) {
+            instances.add(current);
+        }
+        for (int i = instances.size() - 1; i >= 0; i--) {
+            DependentInstance instance = instances.get(i);
+            if (instance.remove()) {
+                instance.handle.destroy();
             }
         }
     }
@@ -127,4 +175,30 @@ public static <I> void addDependencyToParent(InjectableBean<I> bean, I instance,
         }
     }
 
+    static final class DependentInstance {
+
+        private static final AtomicIntegerFieldUpdater<DependentInstance> REMOVED_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(DependentInstance.class, "removed");
+
+        final InstanceHandle<?> handle;
+        volatile DependentInstance next;
+        private volatile int removed;
+
+        DependentInstance(InstanceHandle<?> handle) {
+            this.handle = handle;
+        }
+
+        boolean isRemoved() {
+            return removed == 1;
+        }
+
+        /**
+         * @return {@code true} if this call removed the instance, {@code false} if it was already removed
+         */
+        boolean remove() {
+            return REMOVED_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+    }
+
 }
@@ -39,6 +39,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 
@@ -93,7 +94,7 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -223,6 +224,11 @@ private void handleExceptions(ObserverExceptionHandler handler) {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // Observers are split and their requirements computed once, so that a notification only iterates over an array
+        private final ObserverMethod<? super T>[] syncObservers;
+        private final ObserverMethod<? super T>[] asyncObservers;
+        private final boolean syncEventContextRequired;
+        private final boolean asyncEventContextRequired;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -235,6 +241,10 @@ private void handleExceptions(ObserverExceptionHandler handler) {
                 boolean activateRequestContext) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            this.syncObservers = filter(observerMethods, false);
+            this.asyncObservers = filter(observerMethods, true);
+            this.syncEventContextRequired = isEventContextRequired(syncObservers);
+            this.asyncEventContextRequired = isEventContextRequired(asyncObservers);
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
@@ -246,10 +256,11 @@ void notify(T event) {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            ObserverMethod<? super T>[] observers = async ? asyncObservers : syncObservers;
+            if (observers.length > 0) {
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
+                // null means that all the observers are notified
+                Predicate<ObserverMethod<? super T>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -279,13 +290,13 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                                 // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
                                 txManager.getTransaction().registerSynchronization(sync);
                                 // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(this::isNotTxObserver);
+                                predicate = this::isNotTxObserver;
                             } catch (Exception e) {
                                 if (e.getCause() instanceof RollbackException
                                         || e.getCause() instanceof IllegalStateException
                                         || e.getCause() instanceof SystemException) {
                                     // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(this::isNotAfterSuccess);
+                                    predicate = this::isNotAfterSuccess;
                                 }
                             }
                         }
@@ -297,35 +308,43 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                     }
                 }
 
+                boolean eventContextRequired = async ? asyncEventContextRequired : syncEventContextRequired;
                 // Non-tx observers notifications
                 if (activateRequestContext) {
                     ManagedContext requestContext = Arc.container().requestContext();
                     if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(event, exceptionHandler, observers, eventContextRequired, predicate);
                     } else {
                         try {
                             requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
+                            notifyObservers(event, exceptionHandler, observers, eventContextRequired, predicate);
                         } finally {
                             requestContext.terminate();
                         }
                     }
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(event, exceptionHandler, observers, eventContextRequired, predicate);
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                ObserverMethod<? super T>[] observers, boolean eventContextRequired,
                 Predicate<ObserverMethod<? super T>> predicate) {
-            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            // The context is only created if an observer needs it
+            EventContext eventContext = eventContextRequired ? new EventContextImpl<>(event, eventMetadata) : null;
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
-                        observerMethod.notify(eventContext);
+                        if (eventContext != null) {
+                            observerMethod.notify(eventContext);
+                        } else {
+                            observerMethod.notify(event);
+                        }
                     } catch (Throwable t) {
-                        exceptionHandler.handle(t, observerMethod, eventContext);
+                        exceptionHandler.handle(t, observerMethod,
+                                eventContext != null ? eventContext : new EventContextImpl<>(event, eventMetadata));
                     }
                 }
             }
@@ -335,6 +354,26 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return asyncObservers.length > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] filter(List<ObserverMethod<? super T>> observerMethods,
+                boolean async) {
+            return observerMethods.stream().filter(om -> om.isAsync() == async).toArray(ObserverMethod[]::new);
+        }
+
+        private static boolean isEventContextRequired(ObserverMethod<?>[] observers) {
+            for (ObserverMethod<?> observer : observers) {
+                if (!(observer instanceof InjectableObserverMethod)
+                        || ((InjectableObserverMethod<?>) observer).isEventContextRequired()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -4,10 +4,13 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,12 +42,21 @@ class RequestContext implements ManagedContext {
     private final Notifier<Object> beforeDestroyedNotifier;
     private final Notifier<Object> destroyedNotifier;
 
+    // bean identifier -> index in RequestContextState#instances, assigned at build time
+    private final Map<String, Integer> beanIndexes;
+
     public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
             Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier) {
+        this(currentContext, initializedNotifier, beforeDestroyedNotifier, destroyedNotifier, Map.of());
+    }
+
+    public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
+            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier, Map<String, Integer> beanIndexes) {
         this.currentContext = currentContext;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
         this.destroyedNotifier = destroyedNotifier;
+        this.beanIndexes = new HashMap<>(beanIndexes);
     }
 
     @Override
@@ -66,13 +78,18 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        int index = indexOf(bean);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(index, bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
-            instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
-                    contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            instance = new ContextInstanceHandleImpl<T>(bean, contextual.create(creationalContext), creationalContext);
+            ContextInstanceHandle<T> existing = (ContextInstanceHandle<T>) ctxState.putIfAbsent(index, bean, instance);
+            if (existing != null) {
+                // Another thread created the instance concurrently
+                instance.destroy();
+                instance = existing;
+            }
         }
         return instance.get();
     }
@@ -99,7 +116,7 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(indexOf(bean), bean);
         return instance == null ? null : instance.get();
     }
 
@@ -115,7 +132,8 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        int index = contextual instanceof InjectableBean ? indexOf((InjectableBean<?>) contextual) : -1;
+        ContextInstanceHandle<?> instance = state.remove(index, contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -133,7 +151,7 @@ public void activate(ContextState initialState) {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(beanIndexes.size()));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -196,12 +214,7 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
-                if (!map.isEmpty()) {
-                    //Performance: avoid an iterator on the map elements
-                    map.forEach(this::destroyContextElement);
-                    map.clear();
-                }
+                reqState.destroyInstances(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -210,7 +223,12 @@ public void destroy(ContextState state) {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private int indexOf(InjectableBean<?> bean) {
+        Integer index = beanIndexes.get(bean.getIdentifier());
+        return index != null ? index : -1;
+    }
+
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -234,30 +252,107 @@ private ContextNotActiveException notActive() {
         return new ContextNotActiveException(msg);
     }
 
+    /**
+     * The instances of the beans known at build time are stored in an array, at the index assigned to the bean. A map is
+     * only created for the other beans. The state is usually accessed from a single thread, but instances are added and
+     * removed with atomic operations so that concurrent access remains safe.
+     */
     static class RequestContextState implements ContextState {
 
         private static final VarHandle IS_VALID;
+        private static final VarHandle INSTANCES = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
+        private static final VarHandle OTHERS;
 
         static {
             try {
                 IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                OTHERS = MethodHandles.lookup().findVarHandle(RequestContextState.class, "others", ConcurrentMap.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        private final ContextInstanceHandle<?>[] instances;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
         private volatile int isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int size) {
+            this.instances = new ContextInstanceHandle<?>[size];
             this.isValid = 1;
         }
 
+        ContextInstanceHandle<?> get(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                return (ContextInstanceHandle<?>) INSTANCES.getAcquire(instances, index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.get(contextual);
+        }
+
+        /**
+         * @return the instance that was already stored, or {@code null} if the given instance was stored
+         */
+        ContextInstanceHandle<?> putIfAbsent(int index, Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            if (index >= 0) {
+                return (ContextInstanceHandle<?>) INSTANCES.compareAndExchange(instances, index, null, instance);
+            }
+            return others().putIfAbsent(contextual, instance);
+        }
+
+        ContextInstanceHandle<?> remove(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                return (ContextInstanceHandle<?>) INSTANCES.getAndSet(instances, index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.remove(contextual);
+        }
+
+        void destroyInstances(Consumer<ContextInstanceHandle<?>> destroyAction) {
+            for (int i = 0; i < instances.length; i++) {
+                if (instances[i] != null) {
+                    ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCES.getAndSet(instances, i, null);
+                    if (instance != null) {
+                        destroyAction.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null && !others.isEmpty()) {
+                //Performance: avoid an iterator on the map elements
+                others.forEach((contextual, instance) -> destroyAction.accept(instance));
+                others.clear();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others == null) {
+                others = new ConcurrentHashMap<>();
+                Object witness = OTHERS.compareAndExchange(this, null, others);
+                if (witness != null) {
+                    others = (ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>) witness;
+                }
+            }
+            return others;
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> result = new HashMap<>();
+            for (int i = 0; i < instances.length; i++) {
+                ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCES.getAcquire(instances, i);
+                if (instance != null) {
+                    result.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (ContextInstanceHandle<?> instance : others.values()) {
+                    result.put(instance.getBean(), instance.get());
+                }
+            }
+            return Collections.unmodifiableMap(result);
         }
 
         /**
@@ -0,0 +1,104 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.InstanceHandle;
+
+public class CreationalContextImplTest {
+
+    @Test
+    public void testRemoveAndRelease() {
+        List<String> destroyed = new ArrayList<>();
+        CreationalContextImpl<Object> ctx = new CreationalContextImpl<>(null);
+        assertFalse(ctx.hasDependentInstances());
+
+        ctx.addDependentInstance(handle("alpha", destroyed));
+        ctx.addDependentInstance(handle("bravo", destroyed));
+        ctx.addDependentInstance(handle("charlie", destroyed));
+        ctx.addDependentInstance(handle("delta", destroyed));
+        assertTrue(ctx.hasDependentInstances());
+
+        // head, interior and not tracked
+        assertTrue(ctx.removeDependentInstance("delta", true));
+        assertTrue(ctx.removeDependentInstance("bravo", false));
+        assertFalse(ctx.removeDependentInstance("bravo", true));
+        assertFalse(ctx.removeDependentInstance("echo", true));
+        assertEquals(List.of("delta"), destroyed);
+
+        ctx.release();
+        // the remaining instances are destroyed in the order they were added
+        assertEquals(List.of("delta", "alpha", "charlie"), destroyed);
+        assertFalse(ctx.hasDependentInstances());
+
+        // a second release does not destroy the instances again
+        ctx.release();
+        assertEquals(3, destroyed.size());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        int threads = 4;
+        int instancesPerThread = 1000;
+        List<String> destroyed = new CopyOnWriteArrayList<>();
+        CreationalContextImpl<Object> ctx = new CreationalContextImpl<>(null);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String prefix = "thread" + i + "-";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < instancesPerThread; j++) {
+                        String instance = prefix + j;
+                        ctx.addDependentInstance(handle(instance, destroyed));
+                        if (j % 2 == 0) {
+                            assertTrue(ctx.removeDependentInstance(instance, true));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * instancesPerThread / 2, destroyed.size());
+        ctx.release();
+        // every instance is destroyed exactly once
+        assertEquals(threads * instancesPerThread, destroyed.size());
+        assertEquals(threads * instancesPerThread, destroyed.stream().distinct().count());
+    }
+
+    private static InstanceHandle<String> handle(String instance, List<String> destroyed) {
+        return new InstanceHandle<String>() {
+
+            @Override
+            public String get() {
+                return instance;
+            }
+
+            @Override
+            public void destroy() {
+                destroyed.add(instance);
+            }
+        };
+    }
+
+}
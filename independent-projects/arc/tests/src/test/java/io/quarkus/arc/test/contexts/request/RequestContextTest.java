@@ -4,6 +4,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -204,6 +205,30 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testDestroyBean() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+            String controllerId = arc.instance(Controller.class).get().getId();
+            assertEquals(controllerId, ((Controller) requestContext.getState().getContextualInstances().get(controllerBean))
+                    .getId());
+
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+
+            // A new instance is created on the next access
+            assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
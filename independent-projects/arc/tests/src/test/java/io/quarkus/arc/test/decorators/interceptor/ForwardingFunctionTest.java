@@ -0,0 +1,148 @@
+package io.quarkus.arc.test.decorators.interceptor;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Priority;
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+/**
+ * The forwarding function that ends the interceptor chain is created once per bean instance, so it must always call the
+ * decorator and the superclass method of its own instance, with the parameters of the current invocation.
+ */
+public class ForwardingFunctionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Accumulator.class, Counter.class, DoublingDecorator.class,
+            CountingInterceptor.class, Counting.class);
+
+    @Test
+    public void testForwardingFunctionOfEachInstance() throws IOException {
+        CountingInterceptor.INVOCATIONS.set(0);
+        Counter first = Arc.container().instance(Counter.class).get();
+        Counter second = Arc.container().instance(Counter.class).get();
+
+        // a method called by the constructor is not intercepted
+        assertEquals("init:0", first.initial);
+        assertEquals(0, CountingInterceptor.INVOCATIONS.get());
+
+        // intercepted and decorated, each instance forwards to its own state
+        assertEquals(2, first.add(1));
+        assertEquals(4, first.add(1));
+        assertEquals(10, second.add(5));
+        assertEquals(6, first.add(1));
+
+        // intercepted only, the parameters set by the interceptor are forwarded
+        assertEquals("[a]:6", first.describe("a"));
+        assertEquals("[b]:10", second.describe("b"));
+
+        first.reset();
+        assertEquals(2, first.add(1));
+        assertEquals(10, second.add(0));
+
+        IOException exception = assertThrows(IOException.class, first::fail);
+        assertEquals("fail:2", exception.getMessage());
+
+        assertEquals(10, CountingInterceptor.INVOCATIONS.get());
+    }
+
+    interface Accumulator {
+
+        int add(int value);
+
+    }
+
+    @Counting
+    @Dependent
+    static class Counter implements Accumulator {
+
+        final String initial;
+        private int total;
+
+        Counter() {
+            initial = describe("init");
+        }
+
+        @Override
+        public int add(int value) {
+            total += value;
+            return total;
+        }
+
+        public String describe(String prefix) {
+            return prefix + ":" + total;
+        }
+
+        public void reset() {
+            total = 0;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail:" + total);
+        }
+
+    }
+
+    @Priority(1)
+    @Decorator
+    static abstract class DoublingDecorator implements Accumulator {
+
+        @Inject
+        @Delegate
+        Accumulator delegate;
+
+        @Override
+        public int add(int value) {
+            return delegate.add(value * 2);
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @Documented
+    @InterceptorBinding
+    public @interface Counting {
+
+    }
+
+    @Counting
+    @Priority(10)
+    @Interceptor
+    static class CountingInterceptor {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @AroundInvoke
+        Object count(InvocationContext ctx) throws Exception {
+            INVOCATIONS.incrementAndGet();
+            if (ctx.getMethod().getName().equals("describe")) {
+                ctx.setParameters(new Object[] { "[" + ctx.getParameters()[0] + "]" });
+            }
+            return ctx.proceed();
+        }
+    }
+
+}
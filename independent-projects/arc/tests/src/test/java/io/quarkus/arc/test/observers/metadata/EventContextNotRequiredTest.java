@@ -0,0 +1,83 @@
+package io.quarkus.arc.test.observers.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.EventMetadata;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class EventContextNotRequiredTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringObserver.class, StringMetadataObserver.class,
+            LongObserver.class);
+
+    @Test
+    public void testEventContextRequired() {
+        for (ObserverMethod<? super String> observer : Arc.container().beanManager().resolveObserverMethods("")) {
+            // only the observer that declares an EventMetadata parameter needs the context
+            assertEquals(observer.getBeanClass().equals(StringMetadataObserver.class),
+                    ((InjectableObserverMethod<?>) observer).isEventContextRequired());
+        }
+    }
+
+    @Test
+    public void testNotification() {
+        Arc.container().beanManager().getEvent().fire("foo");
+        assertEquals(List.of("foo"), StringObserver.EVENTS);
+        EventMetadata metadata = StringMetadataObserver.METADATA.get();
+        assertNotNull(metadata);
+        assertEquals(String.class, metadata.getType());
+
+        Arc.container().beanManager().getEvent().select(Long.class).fire(1L);
+        Arc.container().beanManager().getEvent().select(Long.class).fire(2L);
+        assertEquals(List.of(1L, 2L), LongObserver.EVENTS);
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void observe(@Observes String value) {
+            EVENTS.add(value);
+        }
+
+    }
+
+    @Singleton
+    static class StringMetadataObserver {
+
+        static final AtomicReference<EventMetadata> METADATA = new AtomicReference<>();
+
+        void observe(@Observes String value, EventMetadata metadata) {
+            METADATA.set(metadata);
+        }
+
+    }
+
+    @Singleton
+    static class LongObserver {
+
+        static final List<Long> EVENTS = new CopyOnWriteArrayList<>();
+
+        void observe(@Observes Long value) {
+            EVENTS.add(value);
+        }
+
+    }
+
+}
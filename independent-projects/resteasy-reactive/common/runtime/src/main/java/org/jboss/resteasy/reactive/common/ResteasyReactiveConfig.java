@@ -31,6 +31,18 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * If this is true then the arrays holding the parameters of a resource method are returned to a pool of the thread
+     * that allocated them once the request completes, so they can be reused by the next requests of that thread.
+     */
+    private boolean recycleRequestArrays;
+
+    /**
+     * If this is true then recycled arrays are checked for modifications that happened after they were returned to
+     * their pool, which means a reference to them escaped their request. This is meant for development and testing.
+     */
+    private boolean checkRecycledRequestArrays;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -74,4 +86,20 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isRecycleRequestArrays() {
+        return recycleRequestArrays;
+    }
+
+    public void setRecycleRequestArrays(boolean recycleRequestArrays) {
+        this.recycleRequestArrays = recycleRequestArrays;
+    }
+
+    public boolean isCheckRecycledRequestArrays() {
+        return checkRecycledRequestArrays;
+    }
+
+    public void setCheckRecycledRequestArrays(boolean checkRecycledRequestArrays) {
+        this.checkRecycledRequestArrays = checkRecycledRequestArrays;
+    }
 }
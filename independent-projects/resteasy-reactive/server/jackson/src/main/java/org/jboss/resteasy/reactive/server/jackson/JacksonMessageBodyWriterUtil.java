@@ -6,6 +6,9 @@
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.ws.rs.core.MultivaluedMap;
 
@@ -34,6 +37,23 @@ public static ObjectWriter createDefaultWriter(ObjectMapper mapper) {
         }
     }
 
+    /**
+     * Creates writers that have the serializer for each of the given types resolved up front, so it is not looked up
+     * (or built, on first use) for every value that is written.
+     * <p>
+     * The writers must only be used for values whose class is exactly the type they were created for.
+     */
+    public static Map<Class<?>, ObjectWriter> createTypedWriters(ObjectWriter defaultWriter, Collection<Class<?>> types) {
+        if (types.isEmpty()) {
+            return Map.of();
+        }
+        Map<Class<?>, ObjectWriter> result = new HashMap<>();
+        for (Class<?> type : types) {
+            result.put(type, defaultWriter.forType(type));
+        }
+        return result;
+    }
+
     private static boolean needsNewFactory(JsonFactory jsonFactory) {
         return jsonFactory.isEnabled(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
                 || jsonFactory.isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
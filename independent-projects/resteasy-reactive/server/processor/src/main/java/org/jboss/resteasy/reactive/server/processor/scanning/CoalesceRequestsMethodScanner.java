@@ -0,0 +1,41 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.GET;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.UNI;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.CoalesceRequests;
+import org.jboss.resteasy.reactive.server.model.CoalescingHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class CoalesceRequestsMethodScanner implements MethodScanner {
+    private static final DotName COALESCE_REQUESTS = DotName.createSimple(CoalesceRequests.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext
+                .get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance annotationInstance = annotationStore.getAnnotation(method, COALESCE_REQUESTS);
+        if (annotationInstance == null) {
+            return Collections.emptyList();
+        }
+        if (!method.returnType().name().equals(UNI) || annotationStore.getAnnotation(method, GET) == null) {
+            throw new IllegalStateException("'@CoalesceRequests' can only be used on GET methods that return 'Uni'. "
+                    + "Offending method is '" + method.name() + "' of class '" + method.declaringClass().name() + "'");
+        }
+        AnnotationValue headersValue = annotationInstance.value("headers");
+        String[] headers = headersValue == null ? new String[0] : headersValue.asStringArray();
+        return Collections.singletonList(new CoalescingHandlerChainCustomizer(headers));
+    }
+}
@@ -0,0 +1,29 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When used on a {@code GET} resource method that returns a {@code Uni}, identical requests that arrive while a previous
+ * one is still being processed do not invoke the method again: they all wait for the {@code Uni} of the first request and
+ * respond with its result.
+ * <p>
+ * Two requests are identical when they match the same path and query string and have the same {@code Accept},
+ * {@code Authorization} and {@code Cookie} headers, as well as the same values for the headers listed in
+ * {@link #headers()}. Requests are only coalesced while they are in flight, no result is kept once the {@code Uni}
+ * completes.
+ * <p>
+ * Every request still runs its own filters and serializes the shared result itself, so the result must be safe to use
+ * from several requests at the same time. In particular a {@code Response} whose entity is a stream cannot be shared.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CoalesceRequests {
+
+    /**
+     * @return the names of the other request headers that the result depends on
+     */
+    String[] headers() default {};
+}
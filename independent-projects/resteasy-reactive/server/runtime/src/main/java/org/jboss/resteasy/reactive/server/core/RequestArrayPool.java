@@ -0,0 +1,89 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A pool of the arrays that hold the parameters of resource methods, which is only ever used by a single thread.
+ * <p>
+ * Arrays are only returned to the pool of the thread that allocated them, so requests that complete on a worker
+ * thread do not move arrays away from the event loop. The number of pooled arrays is bounded per length, and longer
+ * arrays are never pooled.
+ */
+public final class RequestArrayPool {
+
+    private static final Logger log = Logger.getLogger(RequestArrayPool.class);
+
+    static final int MAX_LENGTH = 8;
+    static final int MAX_POOLED = 16;
+
+    private static final ThreadLocal<RequestArrayPool> POOLS = new ThreadLocal<>() {
+        @Override
+        protected RequestArrayPool initialValue() {
+            return new RequestArrayPool(Thread.currentThread());
+        }
+    };
+    private static final LongAdder RECYCLED = new LongAdder();
+
+    private final Thread owner;
+    private final Object[][][] arrays = new Object[MAX_LENGTH + 1][MAX_POOLED][];
+    private final int[] counts = new int[MAX_LENGTH + 1];
+
+    private RequestArrayPool(Thread owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the pool of the current thread
+     */
+    public static RequestArrayPool current() {
+        return POOLS.get();
+    }
+
+    /**
+     * Returns the number of arrays that have been reused instead of allocated
+     */
+    public static long getRecycledCount() {
+        return RECYCLED.sum();
+    }
+
+    /**
+     * Returns an array of the given length whose elements are all null.
+     *
+     * @param check whether to verify that the array was not modified after it was released
+     */
+    public Object[] acquire(int length, boolean check) {
+        if (length > MAX_LENGTH || counts[length] == 0) {
+            return new Object[length];
+        }
+        int index = --counts[length];
+        Object[] array = arrays[length][index];
+        arrays[length][index] = null;
+        if (check) {
+            for (Object element : array) {
+                if (element != null) {
+                    log.errorf("A parameter array was modified after its request completed, which means a reference to it "
+                            + "escaped the request. Found %s in the array.", element);
+                    // the array may still be in use, so it is left to whoever holds it
+                    return new Object[length];
+                }
+            }
+        }
+        RECYCLED.increment();
+        return array;
+    }
+
+    /**
+     * Clears the array and returns it to this pool, if it is called from the thread that owns the pool.
+     */
+    public void release(Object[] array) {
+        int length = array.length;
+        if (length == 0 || length > MAX_LENGTH || owner != Thread.currentThread() || counts[length] == MAX_POOLED) {
+            return;
+        }
+        Arrays.fill(array, null);
+        arrays[length][counts[length]++] = array;
+    }
+}
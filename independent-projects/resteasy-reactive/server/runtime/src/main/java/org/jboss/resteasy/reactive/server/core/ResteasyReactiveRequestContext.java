@@ -45,6 +45,7 @@
 import org.jboss.resteasy.reactive.server.jaxrs.UriInfoImpl;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
@@ -62,7 +63,15 @@
      * The parameters array, populated by handlers
      */
     private Object[] parameters;
+    /**
+     * The pool the parameters array was taken from, if arrays are recycled
+     */
+    private RequestArrayPool arrayPool;
     private RuntimeResource target;
+    /**
+     * The invoker of the handler chain of the target, if it was generated
+     */
+    private HandlerChainInvoker handlerChainInvoker;
 
     /**
      * The parameter values extracted from the path.
@@ -167,8 +176,19 @@ public void restart(RuntimeResource target) {
 
     public void restart(RuntimeResource target, boolean setLocatorTarget) {
         this.handlers = target.getHandlerChain();
+        this.handlerChainInvoker = target.getHandlerChainInvoker();
         position = 0;
-        parameters = target.getParameterTypes().length == 0 ? EMPTY_ARRAY : new Object[target.getParameterTypes().length];
+        releaseParameters();
+        int parameterCount = target.getParameterTypes().length;
+        if (parameterCount == 0) {
+            parameters = EMPTY_ARRAY;
+        } else if (deployment != null && deployment.getResteasyReactiveConfig().isRecycleRequestArrays()) {
+            arrayPool = RequestArrayPool.current();
+            parameters = arrayPool.acquire(parameterCount,
+                    deployment.getResteasyReactiveConfig().isCheckRecycledRequestArrays());
+        } else {
+            parameters = new Object[parameterCount];
+        }
         if (setLocatorTarget) {
             setProperty(PreviousResource.PROPERTY_KEY, new PreviousResource(this.target, pathParamValues,
                     (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY)));
@@ -176,6 +196,29 @@ public void restart(RuntimeResource target, boolean setLocatorTarget) {
         this.target = target;
     }
 
+    @Override
+    protected void invokeHandler(int pos) throws Exception {
+        if (!invokeFusedHandler(pos)) {
+            super.invokeHandler(pos);
+        }
+    }
+
+    /**
+     * Invokes the handler through the invoker generated for the handler chain of the target, as long as that chain is
+     * the one being run.
+     *
+     * @return {@code false} if there is no such invoker and the handler still needs to be invoked
+     */
+    protected final boolean invokeFusedHandler(int pos) throws Exception {
+        HandlerChainInvoker invoker = handlerChainInvoker;
+        RuntimeResource target = this.target;
+        if (invoker == null || target == null || handlers != target.getHandlerChain()) {
+            return false;
+        }
+        invoker.invoke(handlers, pos, this);
+        return true;
+    }
+
     /**
      * Meant to be used when an error occurred early in processing chain
      */
@@ -359,6 +402,16 @@ public void close() {
             log.debug("Failed to close stream", e);
         }
         super.close();
+        releaseParameters();
+    }
+
+    private void releaseParameters() {
+        if (arrayPool != null) {
+            // the arrays are only ever passed to the invoker, which does not keep them around
+            arrayPool.release(parameters);
+            arrayPool = null;
+            parameters = EMPTY_ARRAY;
+        }
     }
 
     public LazyResponse getResponse() {
@@ -638,9 +691,11 @@ protected void requestScopeDeactivated() {
 
     @Override
     protected void restarted(boolean keepTarget) {
+        releaseParameters();
         parameters = EMPTY_ARRAY;
         if (!keepTarget) {
             target = null;
+            handlerChainInvoker = null;
         }
     }
 
@@ -89,7 +89,7 @@ private void forEachMethodTemplateMap(URITemplate path, List<RequestMapper.Reque
 
             RuntimeResource fake = new RuntimeResource(currentHttpMethod, path, null, null, Collections.emptyList(),
                     null, null,
-                    new ServerRestHandler[] { mapper }, null, new Class[0], null, false,
+                    new ServerRestHandler[] { mapper }, null, null, new Class[0], null, false,
                     false, null, null, null, null, null,
                     Collections.emptyMap());
             currentMapperPerMethodTemplates.add(new RequestMapper.RequestPath<>(false, fake.getPath(), fake));
@@ -82,6 +82,7 @@
 import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
 import org.jboss.resteasy.reactive.server.handlers.SseResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.handlers.StreamingRequestDeserializeHandler;
 import org.jboss.resteasy.reactive.server.handlers.VariableProducesHandler;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -96,6 +97,8 @@
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
 
+import io.smallrye.mutiny.Multi;
+
 public class RuntimeResourceDeployment {
 
     private static final ServerRestHandler[] EMPTY_REST_HANDLER_ARRAY = new ServerRestHandler[0];
@@ -279,6 +282,11 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 break;
             }
         }
+        // a Multi body of a non-blocking method can be fed as the body arrives, instead of buffering it first
+        boolean streamBody = bodyParameter != null && !method.isFormParamRequired() && !defaultBlocking
+                && !method.isBlocking() && !hasReadBodyRequestFilters
+                && Multi.class.getName().equals(bodyParameter.declaredType)
+                && StreamingRequestDeserializeHandler.hasStreamingReader(serialisers, Multi.class, consumesMediaTypes);
         // form params can be everywhere (field, beanparam, param)
         boolean checkReadBodyRequestFilters = false;
         if (method.isFormParamRequired()) {
@@ -287,7 +295,7 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
             checkReadBodyRequestFilters = true;
         } else if (bodyParameter != null) {
             if (!defaultBlocking) {
-                if (!method.isBlocking()) {
+                if (!method.isBlocking() && !streamBody) {
                     // allow the body to be read by chunks
                     handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier));
                     checkReadBodyRequestFilters = true;
@@ -317,8 +325,13 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 // we only need to parse the signature and create generic type when the declared type differs from the type
                 genericType = TypeSignatureParser.parse(bodyParameter.signature);
             }
-            handlers.add(new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes, serialisers,
-                    bodyParameterIndex));
+            if (streamBody) {
+                handlers.add(new StreamingRequestDeserializeHandler(typeClass, genericType, consumesMediaTypes,
+                        serialisers, bodyParameterIndex));
+            } else {
+                handlers.add(new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes, serialisers,
+                        bodyParameterIndex));
+            }
         }
 
         // given that we may inject form params in the endpoint we need to make sure we read the body before
@@ -487,7 +500,9 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 classPathTemplate,
                 method.getProduces() == null ? null : serverMediaType,
                 consumesMediaTypes, invoker,
-                clazz.getFactory(), handlers.toArray(EMPTY_REST_HANDLER_ARRAY), method.getName(), parameterDeclaredTypes,
+                clazz.getFactory(), handlers.toArray(EMPTY_REST_HANDLER_ARRAY),
+                method.getHandlerChainInvoker() == null ? null : method.getHandlerChainInvoker().get(),
+                method.getName(), parameterDeclaredTypes,
                 effectiveReturnType, method.isBlocking(), method.isRunOnVirtualThread(), resourceClass,
                 lazyMethod,
                 pathParameterIndexes, info.isDevelopmentMode() ? score : null, streamElementType,
@@ -0,0 +1,112 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Replaces the {@link InvocationHandler} of methods annotated with
+ * {@link org.jboss.resteasy.reactive.server.CoalesceRequests}: only the first of several identical concurrent requests
+ * invokes the method, and every one of them gets a {@link Uni} of the same result, that {@link UniResponseHandler}
+ * then waits for.
+ */
+public class CoalescingInvocationHandler implements ServerRestHandler {
+
+    private static final String[] KEY_HEADERS = { HttpHeaders.ACCEPT, HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE };
+
+    private final EndpointInvoker invoker;
+    private final String[] headers;
+    private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingInvocationHandler(EndpointInvoker invoker, String[] headers) {
+        this.invoker = invoker;
+        this.headers = headers;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (requestContext.getResult() != null) {
+            //processing was aborted
+            //but we still follow through with the handler chain
+            return;
+        }
+        List<Object> key = createKey(requestContext);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            requestContext.setResult(share(existing));
+            return;
+        }
+        requestContext.requireCDIRequestScope();
+        Object result;
+        try {
+            result = invoker.invoke(requestContext.getEndpointInstance(), requestContext.getParameters());
+        } catch (Throwable t) {
+            complete(key, created, null, t);
+            // passing true since the target doesn't change and we want response filters to be able to know what the resource method was
+            requestContext.handleException(t, true);
+            return;
+        }
+        if (result instanceof Uni) {
+            // the method is subscribed to independently of this request, so that the other requests still get the
+            // result if this one is cancelled
+            ((Uni<?>) result).subscribe().with(item -> complete(key, created, item, null),
+                    failure -> complete(key, created, null, failure));
+        } else {
+            complete(key, created, result, null);
+        }
+        requestContext.setResult(share(created));
+    }
+
+    private void complete(List<Object> key, CompletableFuture<Object> future, Object item, Throwable failure) {
+        // requests that arrive from now on invoke the method again
+        inFlight.remove(key, future);
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(item);
+        }
+    }
+
+    private List<Object> createKey(ResteasyReactiveRequestContext requestContext) {
+        ServerHttpRequest request = requestContext.serverRequest();
+        List<Object> key = new ArrayList<>(2 + KEY_HEADERS.length + headers.length);
+        key.add(requestContext.getPath());
+        key.add(request.query());
+        for (String header : KEY_HEADERS) {
+            key.add(request.getAllRequestHeaders(header));
+        }
+        for (String header : headers) {
+            key.add(request.getAllRequestHeaders(header));
+        }
+        return key;
+    }
+
+    private static Uni<Object> share(CompletableFuture<Object> future) {
+        return Uni.createFrom().completionStage(future).map(CoalescingInvocationHandler::copyIfMutable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyIfMutable(Object item) {
+        // the response filters of every request may change the headers of a response
+        if (item instanceof Response) {
+            return Response.fromResponse((Response) item).build();
+        } else if (item instanceof RestResponse) {
+            return RestResponse.fromResponse((RestResponse<Object>) item);
+        }
+        return item;
+    }
+}
@@ -29,10 +29,10 @@ public class RequestDeserializeHandler implements ServerRestHandler {
 
     private static final Logger log = Logger.getLogger(RequestDeserializeHandler.class);
 
-    private final Class<?> type;
-    private final Type genericType;
+    final Class<?> type;
+    final Type genericType;
     private final List<MediaType> acceptableMediaTypes;
-    private final ServerSerialisers serialisers;
+    final ServerSerialisers serialisers;
     private final int parameterIndex;
 
     public RequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType> acceptableMediaTypes,
@@ -47,26 +47,7 @@ public RequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        MediaType effectiveRequestType = null;
-        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
-        if (requestType != null) {
-            try {
-                effectiveRequestType = MediaType.valueOf((String) requestType);
-            } catch (Exception e) {
-                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
-            }
-
-            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
-            if (MediaTypeHelper.getFirstMatch(
-                    acceptableMediaTypes,
-                    Collections.singletonList(effectiveRequestType)) == null) {
-                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
-            }
-        } else if (!acceptableMediaTypes.isEmpty()) {
-            effectiveRequestType = acceptableMediaTypes.get(0);
-        } else {
-            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-        }
+        MediaType effectiveRequestType = getEffectiveRequestType(requestContext);
         List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER);
         if (readers.isEmpty()) {
             throw new NotSupportedException();
@@ -104,7 +85,31 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
         throw new NotSupportedException("No supported MessageBodyReader found");
     }
 
-    private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
+    MediaType getEffectiveRequestType(ResteasyReactiveRequestContext requestContext) {
+        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
+        if (requestType != null) {
+            MediaType effectiveRequestType;
+            try {
+                effectiveRequestType = MediaType.valueOf((String) requestType);
+            } catch (Exception e) {
+                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
+            }
+
+            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
+            if (MediaTypeHelper.getFirstMatch(
+                    acceptableMediaTypes,
+                    Collections.singletonList(effectiveRequestType)) == null) {
+                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
+            }
+            return effectiveRequestType;
+        } else if (!acceptableMediaTypes.isEmpty()) {
+            return acceptableMediaTypes.get(0);
+        } else {
+            return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+    }
+
+    boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
             MediaType requestType) {
         if (reader instanceof ServerMessageBodyReader) {
             return ((ServerMessageBodyReader<?>) reader).isReadable(type, genericType,
@@ -0,0 +1,286 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerStreamingMessageBodyReader;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Handler that sets up a {@link Multi} request entity that is fed by a {@link ServerStreamingMessageBodyReader} as the
+ * request body arrives, so the endpoint is invoked straight away and the body is never buffered as a whole.
+ * <p>
+ * Reading the body is driven by the demand of the subscriber: the request input is paused whenever the elements that
+ * have been decoded are not requested yet, which applies back-pressure to the client.
+ * <p>
+ * If the body has already been read, for example by a request filter, this falls back to
+ * {@link RequestDeserializeHandler}.
+ */
+public class StreamingRequestDeserializeHandler extends RequestDeserializeHandler {
+
+    public StreamingRequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType> acceptableMediaTypes,
+            ServerSerialisers serialisers, int parameterIndex) {
+        super(type, genericType, acceptableMediaTypes, serialisers, parameterIndex);
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (requestContext.hasInputStream()) {
+            super.handle(requestContext);
+            return;
+        }
+        MediaType effectiveRequestType = getEffectiveRequestType(requestContext);
+        List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER);
+        for (MessageBodyReader<?> reader : readers) {
+            if (reader instanceof ServerStreamingMessageBodyReader
+                    && isReadable(reader, requestContext, effectiveRequestType)) {
+                requestContext.requireCDIRequestScope();
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                ServerStreamingMessageBodyReader.Decoder decoder = ((ServerStreamingMessageBodyReader) reader)
+                        .createDecoder(type, genericType, effectiveRequestType);
+                requestContext.setRequestEntity(
+                        Multi.createFrom().publisher(new RequestBodyPublisher(requestContext.serverRequest(), decoder)));
+                return;
+            }
+        }
+        throw new NotSupportedException("No supported streaming MessageBodyReader found");
+    }
+
+    /**
+     * Returns true if there is a streaming reader for the given entity type and one of the media types
+     */
+    public static boolean hasStreamingReader(ServerSerialisers serialisers, Class<?> type, List<MediaType> mediaTypes) {
+        for (MediaType mediaType : mediaTypes.isEmpty() ? List.of(MediaType.WILDCARD_TYPE) : mediaTypes) {
+            for (MessageBodyReader<?> reader : serialisers.findReaders(null, type, mediaType, RuntimeType.SERVER)) {
+                if (reader instanceof ServerStreamingMessageBodyReader) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the elements decoded from the request body. It can only be subscribed to once, as the body can only
+     * be read once.
+     */
+    static final class RequestBodyPublisher
+            implements Publisher<Object>, Subscription, ServerHttpRequest.ReadCallback, Consumer<Object> {
+
+        private final ServerHttpRequest request;
+        private final ServerStreamingMessageBodyReader.Decoder decoder;
+        /**
+         * The elements that have been decoded but not requested yet
+         */
+        private final ArrayDeque<Object> pending = new ArrayDeque<>();
+        private Subscriber<? super Object> subscriber;
+        private long demand;
+        private boolean inputPaused = true;
+        private boolean inputEnded;
+        private boolean terminated;
+        private boolean cancelled;
+        private Throwable failure;
+        private boolean draining;
+        private boolean missed;
+
+        RequestBodyPublisher(ServerHttpRequest request, ServerStreamingMessageBodyReader.Decoder decoder) {
+            this.request = request;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Object> s) {
+            synchronized (this) {
+                if (subscriber == null) {
+                    subscriber = s;
+                    s = null;
+                }
+            }
+            if (s != null) {
+                s.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                s.onError(new IllegalStateException("The request body can only be subscribed to once"));
+                return;
+            }
+            subscriber.onSubscribe(this);
+            if (request.isRequestEnded()) {
+                request.resumeRequestInput();
+                done();
+            } else {
+                request.setReadListener(this);
+                // the input is only resumed once there is some demand
+                if (isInputRequired()) {
+                    request.resumeRequestInput();
+                }
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                synchronized (this) {
+                    failure = new IllegalArgumentException("Invalid request: " + n);
+                }
+                drain();
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+            if (isInputRequired()) {
+                request.resumeRequestInput();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            boolean resume;
+            synchronized (this) {
+                cancelled = true;
+                pending.clear();
+                resume = inputPaused && !inputEnded;
+                inputPaused = false;
+            }
+            // read and discard the rest of the body, so the connection can be reused
+            if (resume) {
+                request.resumeRequestInput();
+            }
+        }
+
+        @Override
+        public void data(ByteBuffer data) {
+            synchronized (this) {
+                if (cancelled || failure != null) {
+                    return;
+                }
+            }
+            try {
+                decoder.decode(data, this);
+            } catch (Throwable t) {
+                synchronized (this) {
+                    failure = t;
+                }
+            }
+            drain();
+            boolean pause;
+            synchronized (this) {
+                pause = !inputPaused && !cancelled && failure == null && demand == 0;
+                if (pause) {
+                    inputPaused = true;
+                }
+            }
+            if (pause) {
+                request.pauseRequestInput();
+            }
+        }
+
+        @Override
+        public void done() {
+            synchronized (this) {
+                if (cancelled || failure != null) {
+                    inputEnded = true;
+                    return;
+                }
+            }
+            try {
+                decoder.end(this);
+            } catch (Throwable t) {
+                synchronized (this) {
+                    failure = t;
+                }
+            }
+            // only marked as ended once the last elements are pending, so it does not complete too early
+            synchronized (this) {
+                inputEnded = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void accept(Object element) {
+            // null elements cannot be published, so they are skipped
+            if (element != null) {
+                synchronized (this) {
+                    pending.add(element);
+                }
+            }
+        }
+
+        private synchronized boolean isInputRequired() {
+            if (inputPaused && !inputEnded && !cancelled && failure == null && demand > 0 && pending.isEmpty()) {
+                inputPaused = false;
+                return true;
+            }
+            return false;
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    missed = true;
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                Object element = null;
+                Throwable error = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (cancelled || terminated) {
+                        draining = false;
+                        return;
+                    }
+                    if (failure != null) {
+                        error = failure;
+                        terminated = true;
+                        pending.clear();
+                    } else if (demand > 0 && !pending.isEmpty()) {
+                        element = pending.poll();
+                        demand--;
+                    } else if (inputEnded && pending.isEmpty()) {
+                        complete = true;
+                        terminated = true;
+                    } else if (missed) {
+                        missed = false;
+                        continue;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+                // the subscriber is called outside the lock, as it may request more elements
+                if (error != null) {
+                    subscriber.onError(error);
+                } else if (complete) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onNext(element);
+                }
+            }
+        }
+    }
+}
@@ -150,7 +150,12 @@ public void dump(int level) {
     }
 
     private void dumpValue(T value, int level) {
-        if (value instanceof List) {
+        if (value instanceof RequestPathTrie) {
+            for (Object x : ((RequestPathTrie) value).paths) {
+                if (x instanceof Dumpable)
+                    ((Dumpable) x).dump(level);
+            }
+        } else if (value instanceof List) {
             for (Object x : (List) value) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
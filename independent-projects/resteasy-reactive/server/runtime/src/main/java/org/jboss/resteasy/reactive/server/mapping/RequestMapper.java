@@ -14,14 +14,25 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<List<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<RequestPathTrie<T>> requestPaths;
+    private final PathMatcher.Builder<RequestPathTrie<T>> pathMatcherBuilder;
     private final List<RequestPath<T>> templates;
+    private final boolean useTrie;
     final int maxParams;
 
     public RequestMapper(List<RequestPath<T>> templates) {
+        this(templates, true);
+    }
+
+    /**
+     * @param templates The templates to match
+     * @param useTrie If the templates that share a stem should be narrowed down with a {@link RequestPathTrie}, rather
+     *        than by trying every one of them in turn
+     */
+    public RequestMapper(List<RequestPath<T>> templates, boolean useTrie) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
+        this.useTrie = useTrie;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
         for (RequestPath<T> i : templates) {
@@ -48,25 +59,28 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
     }
 
     private void addPrefixPaths(String stem, List<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
+        pathMatcherBuilder.addPrefixPath(stem, new RequestPathTrie<>(list, useTrie));
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
         int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        PathMatcher.PathMatch<RequestPathTrie<T>> initialMatch = requestPaths.match(path);
         if (initialMatch.getValue() == null) {
             return null;
         }
 
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        RequestPathTrie<T> value = initialMatch.getValue();
+        int stemLength = initialMatch.getMatched().length();
+        // the parameter array is shared by all the candidates, as a failed candidate simply gets overwritten by the next one
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int index = -1;
+        while ((index = value.nextCandidate(path, stemLength, index)) != -1) {
+            RequestPath<T> potentialMatch = value.paths.get(index);
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
+            int matchPos = stemLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -77,7 +91,7 @@ public RequestMatch<T> map(String path) {
                     }
                     matchPos = matcher.end();
                     for (String group : segment.groups) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
+                        params[paramCount++] = matcher.group(group);
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
@@ -103,15 +117,12 @@ public RequestMatch<T> map(String path) {
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                    params[paramCount++] = path.substring(start, matchPos);
                 }
             }
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -120,6 +131,13 @@ public RequestMatch<T> map(String path) {
                         && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
             }
             if (fullMatch || doPrefixMatch) {
+                // only the winning candidate pays for decoding its parameters
+                for (int i = 0; i < paramCount; ++i) {
+                    params[i] = URIDecoder.decodeURIComponent(params[i], false);
+                }
+                if (paramCount < params.length) {
+                    params[paramCount] = null;
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -193,7 +211,7 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
+    PathMatcher<RequestPathTrie<T>> getRequestPaths() {
         return requestPaths;
     }
 
@@ -0,0 +1,253 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A segment trie over the sorted templates that share a stem, that is used to narrow down the templates that could
+ * possibly match a path without trying every one of them in turn.
+ * <p>
+ * Only templates made of literals and default regex parameters are indexed, every other template (custom regex, or
+ * templates that are only a stem) is always returned as a candidate. The trie is conservative: every candidate it
+ * returns still has to be matched by {@link RequestMapper}, but it never skips a template that could match.
+ * <p>
+ * When the trie is disabled every template is returned as a candidate, which is the same as a linear scan.
+ */
+class RequestPathTrie<T> {
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    final List<RequestMapper.RequestPath<T>> paths;
+    private final Node root;
+    /**
+     * The templates that are not indexed, in order
+     */
+    private final int[] unindexed;
+
+    RequestPathTrie(List<RequestMapper.RequestPath<T>> paths, boolean enabled) {
+        this.paths = paths;
+        if (!enabled) {
+            this.root = null;
+            this.unindexed = null;
+            return;
+        }
+        Node.Builder rootBuilder = new Node.Builder();
+        List<Integer> unindexed = new ArrayList<>();
+        for (int i = 0; i < paths.size(); ++i) {
+            RequestMapper.RequestPath<T> path = paths.get(i);
+            String[] segments = segments(path.template);
+            if (segments == null) {
+                unindexed.add(i);
+                continue;
+            }
+            Node.Builder node = rootBuilder;
+            for (String segment : segments) {
+                node = node.child(segment);
+            }
+            node.terminal.add(i);
+            if (path.prefixTemplate) {
+                node.prefixTerminal.add(i);
+            }
+        }
+        this.root = rootBuilder.build();
+        this.unindexed = toArray(unindexed);
+    }
+
+    /**
+     * Returns the position of the first candidate template after {@code after} that could match the path, or
+     * {@code -1} if there is none.
+     *
+     * @param path The path
+     * @param start The position in the path where the stem ends
+     * @param after The position of the last candidate that was tried, or {@code -1} to start from the first one
+     */
+    int nextCandidate(String path, int start, int after) {
+        if (root == null) {
+            return after + 1 < paths.size() ? after + 1 : -1;
+        }
+        int best = first(unindexed, after, -1);
+        return find(root, path, start, after, best);
+    }
+
+    private static int find(Node node, String path, int pos, int after, int best) {
+        if (pos == -1) {
+            //every segment has been consumed
+            return first(node.terminal, after, best);
+        }
+        int pathLength = path.length();
+        if (pos == pathLength) {
+            //only a trailing slash is left, which any template can match
+            best = first(node.terminal, after, best);
+        } else {
+            best = first(node.prefixTerminal, after, best);
+        }
+        int end = path.indexOf('/', pos);
+        if (end == -1) {
+            end = pathLength;
+        }
+        int next = end == pathLength ? -1 : end + 1;
+        if (node.literals.length > 0) {
+            int index = binarySearch(node.literals, path, pos, end);
+            if (index >= 0) {
+                best = find(node.literalChildren[index], path, next, after, best);
+            }
+        }
+        if (node.paramChild != null) {
+            best = find(node.paramChild, path, next, after, best);
+        }
+        return best;
+    }
+
+    private static int first(int[] candidates, int after, int best) {
+        for (int candidate : candidates) {
+            if (candidate > after) {
+                if (best == -1 || candidate < best) {
+                    return candidate;
+                }
+                return best;
+            }
+        }
+        return best;
+    }
+
+    private static int binarySearch(String[] literals, String path, int start, int end) {
+        int low = 0;
+        int high = literals.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(literals[mid], path, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(String literal, String path, int start, int end) {
+        int length = end - start;
+        int min = Math.min(literal.length(), length);
+        for (int i = 0; i < min; ++i) {
+            int cmp = literal.charAt(i) - path.charAt(start + i);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return literal.length() - length;
+    }
+
+    /**
+     * Splits the part of the template that follows the stem into segments, with {@code null} standing for a segment
+     * that contains a parameter. Returns {@code null} if the template cannot be indexed.
+     */
+    private static String[] segments(URITemplate template) {
+        if (template.components.length < 2) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < template.components.length; ++i) {
+            URITemplate.TemplateComponent component = template.components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                sb.append(component.literalText);
+            } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                //literal text can never contain a brace, so it is safe to use as a marker
+                sb.append('{');
+            } else {
+                return null;
+            }
+        }
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int end = sb.indexOf("/", start);
+            String segment = sb.substring(start, end == -1 ? sb.length() : end);
+            segments.add(segment.indexOf('{') == -1 ? segment : null);
+            if (end == -1) {
+                break;
+            }
+            start = end + 1;
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        if (list.isEmpty()) {
+            return EMPTY_INT_ARRAY;
+        }
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    private static final class Node {
+        /**
+         * The templates that end at this node
+         */
+        final int[] terminal;
+        /**
+         * The templates that end at this node and allow additional segments
+         */
+        final int[] prefixTerminal;
+        /**
+         * Sorted, so they can be searched without creating a substring of the path
+         */
+        final String[] literals;
+        final Node[] literalChildren;
+        final Node paramChild;
+
+        Node(int[] terminal, int[] prefixTerminal, String[] literals, Node[] literalChildren, Node paramChild) {
+            this.terminal = terminal;
+            this.prefixTerminal = prefixTerminal;
+            this.literals = literals;
+            this.literalChildren = literalChildren;
+            this.paramChild = paramChild;
+        }
+
+        static final class Builder {
+            final List<Integer> terminal = new ArrayList<>();
+            final List<Integer> prefixTerminal = new ArrayList<>();
+            //the natural ordering of String is the one used by compare()
+            final TreeMap<String, Builder> literals = new TreeMap<>();
+            Builder paramChild;
+
+            Builder child(String segment) {
+                if (segment == null) {
+                    if (paramChild == null) {
+                        paramChild = new Builder();
+                    }
+                    return paramChild;
+                }
+                Builder child = literals.get(segment);
+                if (child == null) {
+                    literals.put(segment, child = new Builder());
+                }
+                return child;
+            }
+
+            Node build() {
+                String[] keys = new String[literals.size()];
+                Node[] children = new Node[literals.size()];
+                int i = 0;
+                for (Map.Entry<String, Builder> entry : literals.entrySet()) {
+                    keys[i] = entry.getKey();
+                    children[i++] = entry.getValue().build();
+                }
+                return new Node(toArray(terminal), toArray(prefixTerminal), keys, children,
+                        paramChild == null ? null : paramChild.build());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RequestPathTrie{ paths: " + paths + ", unindexed: " + Arrays.toString(unindexed) + " }";
+    }
+}
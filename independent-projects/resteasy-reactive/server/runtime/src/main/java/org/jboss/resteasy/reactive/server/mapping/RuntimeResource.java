@@ -11,6 +11,7 @@
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveSimplifiedResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
@@ -26,6 +27,7 @@ public class RuntimeResource {
     private final EndpointInvoker invoker;
     private final BeanFactory<Object> endpointFactory;
     private final ServerRestHandler[] handlerChain;
+    private final HandlerChainInvoker handlerChainInvoker;
     private final String javaMethodName;
     private final Class<?>[] parameterTypes;
     private final Type returnType;
@@ -37,12 +39,16 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    /**
+     * The size of a recent response body of this resource, used to size the output of the next response
+     */
+    private volatile int responseSizeHint;
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
             EndpointInvoker invoker,
-            BeanFactory<Object> endpointFactory, ServerRestHandler[] handlerChain, String javaMethodName,
-            Class<?>[] parameterTypes,
+            BeanFactory<Object> endpointFactory, ServerRestHandler[] handlerChain, HandlerChainInvoker handlerChainInvoker,
+            String javaMethodName, Class<?>[] parameterTypes,
             Type returnType, boolean blocking, boolean runOnVirtualThread, Class<?> resourceClass,
             ResteasyReactiveResourceInfo lazyMethod,
             Map<String, Integer> pathParameterIndexes, Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score,
@@ -56,6 +62,7 @@ public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPat
         this.invoker = invoker;
         this.endpointFactory = endpointFactory;
         this.handlerChain = handlerChain;
+        this.handlerChainInvoker = handlerChainInvoker;
         this.javaMethodName = javaMethodName;
         this.parameterTypes = parameterTypes;
         this.returnType = returnType;
@@ -73,6 +80,13 @@ public ServerRestHandler[] getHandlerChain() {
         return handlerChain;
     }
 
+    /**
+     * The invoker generated for the handler chain of this resource, or {@code null} if handler chains are not fused
+     */
+    public HandlerChainInvoker getHandlerChainInvoker() {
+        return handlerChainInvoker;
+    }
+
     public String getJavaMethodName() {
         return javaMethodName;
     }
@@ -154,6 +168,22 @@ public Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwab
         return classExceptionMappers;
     }
 
+    public int getResponseSizeHint() {
+        return responseSizeHint;
+    }
+
+    /**
+     * Records the size of a response body written for this resource. The hint is only updated when the size grows,
+     * or shrinks to less than half of the hint, so that responses of a steady size do not keep writing to a field
+     * that is shared by all the requests of this resource.
+     */
+    public void recordResponseSize(int size) {
+        int hint = responseSizeHint;
+        if (size > hint || size < hint / 2) {
+            responseSizeHint = size;
+        }
+    }
+
     @Override
     public String toString() {
         return "RuntimeResource{ method: " + javaMethodName + ", path: " + path + "}";
@@ -0,0 +1,31 @@
+package org.jboss.resteasy.reactive.server.model;
+
+import org.jboss.resteasy.reactive.server.handlers.CoalescingInvocationHandler;
+import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+public class CoalescingHandlerChainCustomizer implements HandlerChainCustomizer {
+
+    private String[] headers;
+
+    public CoalescingHandlerChainCustomizer(String[] headers) {
+        this.headers = headers;
+    }
+
+    public CoalescingHandlerChainCustomizer() {
+    }
+
+    @Override
+    public ServerRestHandler alternateInvocationHandler(EndpointInvoker invoker) {
+        return new CoalescingInvocationHandler(invoker, headers);
+    }
+
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    public CoalescingHandlerChainCustomizer setHeaders(String[] headers) {
+        this.headers = headers;
+        return this;
+    }
+}
@@ -9,10 +9,12 @@
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.HandlerChainInvoker;
 
 public class ServerResourceMethod extends ResourceMethod {
 
     private Supplier<EndpointInvoker> invoker;
+    private Supplier<HandlerChainInvoker> handlerChainInvoker;
 
     private Set<String> methodAnnotationNames;
 
@@ -44,6 +46,15 @@ public ResourceMethod setInvoker(Supplier<EndpointInvoker> invoker) {
         return this;
     }
 
+    public Supplier<HandlerChainInvoker> getHandlerChainInvoker() {
+        return handlerChainInvoker;
+    }
+
+    public ServerResourceMethod setHandlerChainInvoker(Supplier<HandlerChainInvoker> handlerChainInvoker) {
+        this.handlerChainInvoker = handlerChainInvoker;
+        return this;
+    }
+
     public Set<String> getMethodAnnotationNames() {
         return methodAnnotationNames;
     }
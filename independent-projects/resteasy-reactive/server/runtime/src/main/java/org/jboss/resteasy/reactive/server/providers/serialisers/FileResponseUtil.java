@@ -0,0 +1,209 @@
+package org.jboss.resteasy.reactive.server.providers.serialisers;
+
+import java.util.Date;
+import java.util.Locale;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Sends file based entities with {@link ServerHttpResponse#sendFile(String, long, long)}, taking conditional
+ * ({@code If-None-Match}, {@code If-Modified-Since}) and single range ({@code Range}, {@code If-Range}) requests into
+ * account.
+ * <p>
+ * Requests for multiple ranges are answered with the full entity, which the spec allows.
+ */
+final class FileResponseUtil {
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String BYTES = "bytes";
+    private static final String BYTES_PREFIX = "bytes=";
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private FileResponseUtil() {
+    }
+
+    /**
+     * @param context The request context
+     * @param path The path of the file
+     * @param offset The offset of the entity in the file
+     * @param length The length of the entity
+     * @param lastModified The last modification time of the file in milliseconds, or {@code -1} if it is not known
+     */
+    static void sendFile(ServerRequestContext context, String path, long offset, long length, long lastModified) {
+        ServerHttpResponse serverResponse = context.serverResponse();
+        if (!(context instanceof ResteasyReactiveRequestContext)) {
+            serverResponse.sendFile(path, offset, length);
+            return;
+        }
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        String method = requestContext.getMethod();
+        Response response = requestContext.getResponse().get();
+        if (!(response instanceof ResponseImpl) || response.getStatus() != Response.Status.OK.getStatusCode()
+                || !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))) {
+            serverResponse.sendFile(path, offset, length);
+            return;
+        }
+        ResponseImpl responseImpl = (ResponseImpl) response;
+        // the headers of the Response are only encoded when the response is committed, so that is where ours go
+        MultivaluedMap<String, Object> headers = responseImpl.getHeaders();
+        String etag = null;
+        if (lastModified >= 0) {
+            if (headers.containsKey(HttpHeaders.ETAG)) {
+                etag = HeaderUtil.headerToString(headers.getFirst(HttpHeaders.ETAG));
+            } else {
+                etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(offset) + "-"
+                        + Long.toHexString(length) + "\"";
+                headers.putSingle(HttpHeaders.ETAG, etag);
+            }
+            if (!headers.containsKey(HttpHeaders.LAST_MODIFIED)) {
+                headers.putSingle(HttpHeaders.LAST_MODIFIED, DateUtil.formatDate(new Date(lastModified)));
+            }
+        }
+
+        ServerHttpRequest request = requestContext.serverRequest();
+        if (isNotModified(request, etag, lastModified)) {
+            responseImpl.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+            serverResponse.end();
+            return;
+        }
+
+        headers.putSingle(ACCEPT_RANGES, BYTES);
+        String range = request.getRequestHeader(RANGE);
+        if (range != null && ifRangeMatches(request.getRequestHeader(IF_RANGE), etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                responseImpl.setStatus(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+                headers.putSingle(CONTENT_RANGE, BYTES + " */" + length);
+                serverResponse.end();
+                return;
+            }
+            if (bounds != null) {
+                responseImpl.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+                headers.putSingle(CONTENT_RANGE, BYTES + " " + bounds[0] + "-" + bounds[1] + "/" + length);
+                serverResponse.sendFile(path, offset + bounds[0], bounds[1] - bounds[0] + 1);
+                return;
+            }
+        }
+        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
+        serverResponse.sendFile(path, offset, length);
+    }
+
+    private static boolean isNotModified(ServerHttpRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (etag == null) {
+                return false;
+            }
+            // If-None-Match uses the weak comparison
+            String opaqueTag = opaqueTag(etag);
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String ifModifiedSince = request.getRequestHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && lastModified >= 0) {
+            Date date = parseDate(ifModifiedSince);
+            return date != null && lastModified / 1000 <= date.getTime() / 1000;
+        }
+        return false;
+    }
+
+    private static boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_PREFIX)) {
+            // If-Range uses the strong comparison
+            return etag != null && !etag.startsWith(WEAK_PREFIX) && ifRange.equals(etag);
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        Date date = parseDate(ifRange);
+        return date != null && lastModified / 1000 == date.getTime() / 1000;
+    }
+
+    /**
+     * Returns the first and last position of the requested range, {@link #UNSATISFIABLE} if the range is outside the
+     * entity, or {@code null} if the header should be ignored.
+     */
+    static long[] parseRange(String range, long length) {
+        range = range.trim();
+        if (!range.toLowerCase(Locale.ROOT).startsWith(BYTES_PREFIX)) {
+            return null;
+        }
+        String spec = range.substring(BYTES_PREFIX.length()).trim();
+        if (spec.indexOf(',') != -1) {
+            return null;
+        }
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength < 0) {
+                    return null;
+                }
+                if (suffixLength == 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+                if (start < 0 || (!last.isEmpty() && Long.parseLong(last) < start)) {
+                    return null;
+                }
+                if (start >= length) {
+                    return UNSATISFIABLE;
+                }
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static Date parseDate(String date) {
+        try {
+            return DateUtil.parseDate(date);
+        } catch (DateUtil.DateParseException e) {
+            return null;
+        }
+    }
+}
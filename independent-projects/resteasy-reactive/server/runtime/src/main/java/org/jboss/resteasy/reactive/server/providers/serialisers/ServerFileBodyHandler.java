@@ -30,6 +30,7 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(File o, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        context.serverResponse().sendFile(o.getAbsolutePath(), 0, o.length());
+        long lastModified = o.lastModified();
+        FileResponseUtil.sendFile(context, o.getAbsolutePath(), 0, o.length(), lastModified > 0 ? lastModified : -1);
     }
 }
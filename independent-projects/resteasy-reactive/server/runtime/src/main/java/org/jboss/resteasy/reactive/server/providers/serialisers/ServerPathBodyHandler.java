@@ -5,6 +5,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
@@ -12,7 +13,6 @@
 
 import org.jboss.resteasy.reactive.common.providers.serialisers.PathBodyHandler;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -36,8 +36,13 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
     @Override
     public void writeResponse(java.nio.file.Path o, Type genericType, ServerRequestContext context)
             throws WebApplicationException {
-        ServerHttpResponse serverResponse = context.serverResponse();
-        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
-        serverResponse.sendFile(o.toString(), 0, Long.MAX_VALUE);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(o, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        FileResponseUtil.sendFile(context, o.toString(), 0, attributes.size(),
+                attributes.lastModifiedTime().toMillis());
     }
 }
@@ -0,0 +1,24 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+
+/**
+ * Invokes the handlers of the handler chain of a single resource method.
+ * <p>
+ * Implementations are generated for every resource method, with a separate call site for every position in the
+ * chain. This means that each call site only ever sees a single handler type, which allows the JIT to inline the
+ * handlers instead of going through the megamorphic call of the generic handler loop.
+ */
+public interface HandlerChainInvoker {
+
+    /**
+     * Invokes a single handler of the chain
+     *
+     * @param handlers the handler chain of the resource method
+     * @param position the position of the handler to invoke
+     * @param requestContext the request context
+     * @throws Exception the exception thrown by the handler
+     */
+    void invoke(ServerRestHandler[] handlers, int position, ResteasyReactiveRequestContext requestContext)
+            throws Exception;
+}
@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A reader for {@code Multi} request entities that can decode the elements of the entity incrementally, as the chunks
+ * of the request body arrive, instead of waiting for the whole body to be buffered.
+ * <p>
+ * The methods of {@link ServerMessageBodyReader} are still used when the body has already been read, for example by a
+ * blocking endpoint or by a request filter.
+ */
+public interface ServerStreamingMessageBodyReader<T> extends ServerMessageBodyReader<T> {
+
+    /**
+     * Creates a decoder for a single request body.
+     *
+     * @param type the type of the entity
+     * @param genericType the generic type of the entity, which contains the type of the elements
+     * @param mediaType the media type of the request body
+     */
+    Decoder createDecoder(Class<T> type, Type genericType, MediaType mediaType);
+
+    /**
+     * Decodes the elements of a request body, one chunk at a time. Decoders are only ever used by a single thread at
+     * a time.
+     */
+    interface Decoder {
+
+        /**
+         * Decodes a chunk of the request body, passing every element that is complete to the consumer. Incomplete
+         * elements must be kept until the next chunk arrives.
+         */
+        void decode(ByteBuffer data, Consumer<Object> elements) throws IOException;
+
+        /**
+         * Called once the whole request body has been passed to {@link #decode(ByteBuffer, Consumer)}.
+         */
+        void end(Consumer<Object> elements) throws IOException;
+    }
+}
@@ -0,0 +1,91 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testParamsAreDecodedForMatchingTemplateOnly() {
+        RequestMapper<String> mapper = mapper("/foo/{id}/bar", "/foo/{id}/{name: [a-z]+}/{other}", "/foo/{id}");
+
+        RequestMapper.RequestMatch<String> match = mapper.map("/foo/a%20b/bar");
+        assertEquals("/foo/{id}/bar", match.value);
+        assertEquals("a b", match.pathParamValues[0]);
+        assertNull(match.pathParamValues[1]);
+
+        match = mapper.map("/foo/a%2Fb/xyz/q%3D");
+        assertEquals("/foo/{id}/{name: [a-z]+}/{other}", match.value);
+        assertEquals("a/b", match.pathParamValues[0]);
+        assertEquals("xyz", match.pathParamValues[1]);
+        assertEquals("q=", match.pathParamValues[2]);
+
+        match = mapper.map("/foo/a%20b");
+        assertEquals("/foo/{id}", match.value);
+        assertEquals("a b", match.pathParamValues[0]);
+        assertNull(match.pathParamValues[1]);
+
+        assertNull(mapper.map("/bar"));
+    }
+
+    @Test
+    public void testTrieMatchesLinearScan() {
+        String[] templates = { "/api/v1/{tenant}", "/api/v1/{tenant}/", "/api/v1/{tenant}/users",
+                "/api/v1/{tenant}/users/{id}", "/api/v1/{tenant}/users/{id}/roles", "/api/v1/{tenant}/users/me",
+                "/api/v1/{tenant}/orders/{id: [0-9]+}", "/api/v1/{tenant}/orders/{id}/items/{item}",
+                "/api/v1/{tenant}/orders/x{id}", "/api/v1/status", "/api/v1", "/api/v1/{tenant}/files/{path: .*}", "/",
+                "/{name}", "/{a}/{b}", "/static/", "/static/{file}" };
+        String[] paths = { "/api/v1/acme", "/api/v1/acme/", "/api/v1/acme/users", "/api/v1/acme/users/",
+                "/api/v1/acme/users/12", "/api/v1/acme/users/me", "/api/v1/acme/users/12/roles",
+                "/api/v1/acme/users/12/roles/", "/api/v1/acme/users//roles", "/api/v1/acme/orders/42",
+                "/api/v1/acme/orders/abc", "/api/v1/acme/orders/x42", "/api/v1/acme/orders/7/items/3",
+                "/api/v1/acme/files/a/b/c", "/api/v1/status", "/api/v1/status/", "/api/v1", "/api/v1/", "/api/v12",
+                "/api/v1/a%20b", "/", "/foo", "/foo/", "/foo/bar", "/foo/bar/baz", "/static", "/static/", "/static/x.js",
+                "//", "/api/v1//users" };
+        for (boolean prefix : new boolean[] { false, true }) {
+            List<RequestMapper.RequestPath<String>> requestPaths = new ArrayList<>();
+            for (String template : templates) {
+                requestPaths.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+            }
+            RequestMapper<String> trie = new RequestMapper<>(requestPaths, true);
+            RequestMapper<String> linear = new RequestMapper<>(requestPaths, false);
+            for (String path : paths) {
+                RequestMapper.RequestMatch<String> expected = linear.map(path);
+                RequestMapper.RequestMatch<String> actual = trie.map(path);
+                if (expected == null) {
+                    assertNull(actual, path);
+                } else {
+                    assertNotNull(actual, path);
+                    assertEquals(expected.value, actual.value, path);
+                    assertEquals(expected.remaining, actual.remaining, path);
+                    assertEquals(params(expected), params(actual), path);
+                }
+            }
+        }
+    }
+
+    private static List<String> params(RequestMapper.RequestMatch<String> match) {
+        List<String> params = new ArrayList<>();
+        for (String param : match.pathParamValues) {
+            if (param == null) {
+                break;
+            }
+            params.add(param);
+        }
+        return params;
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        List<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+}
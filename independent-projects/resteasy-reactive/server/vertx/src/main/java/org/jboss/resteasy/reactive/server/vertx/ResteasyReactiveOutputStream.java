@@ -11,8 +11,10 @@
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.LazyResponse;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.AsyncResult;
@@ -24,10 +26,22 @@
 public class ResteasyReactiveOutputStream extends OutputStream {
 
     private static final Logger log = Logger.getLogger("org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveOutputStream");
+    /**
+     * The maximum amount of data that is held back in order to send a response in one go
+     */
+    private static final int MAX_AGGREGATE_SIZE = 1024 * 1024;
     private final ResteasyReactiveRequestContext context;
     protected final HttpServerRequest request;
     private final int outputBufferSize;
     private ByteBuf pooledBuffer;
+    /**
+     * Full buffers that are held back rather than written, as the endpoint is expected to produce a response that
+     * fits in {@link #aggregateLimit}. This allows the response to be written with a content length rather than
+     * chunked, without copying the buffers into a larger one.
+     */
+    private CompositeByteBuf aggregate;
+    private int aggregateLimit = -1;
+    private long written;
     private boolean committed;
 
     private boolean closed;
@@ -207,6 +221,7 @@ public void write(final byte[] b, final int off, final int len) throws IOExcepti
             if (buffer == null) {
                 pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
             }
+            written += len;
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
                 buffer.writeBytes(b, idx, toWrite);
@@ -215,17 +230,65 @@ public void write(final byte[] b, final int off, final int len) throws IOExcepti
                 if (!buffer.isWritable()) {
                     ByteBuf tmpBuf = buffer;
                     this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
-                    writeBlocking(tmpBuf, false);
+                    if (canAggregate(tmpBuf)) {
+                        if (aggregate == null) {
+                            aggregate = PooledByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
+                        }
+                        aggregate.addComponent(true, tmpBuf);
+                    } else {
+                        writeBlocking(drainAggregate(tmpBuf), false);
+                    }
                 }
             }
         } catch (Exception e) {
             if (buffer != null && buffer.refCnt() > 0) {
                 buffer.release();
             }
+            releaseAggregate();
             throw new IOException(e);
         }
     }
 
+    private boolean canAggregate(ByteBuf buffer) {
+        if (aggregateLimit == -1) {
+            aggregateLimit = 0;
+            RuntimeResource target = context.getTarget();
+            if (target != null) {
+                int hint = target.getResponseSizeHint();
+                // leave some room for responses that are a little larger than the last one
+                aggregateLimit = (int) Math.min(hint + (long) (hint >> 3), MAX_AGGREGATE_SIZE);
+            }
+        }
+        int aggregated = aggregate == null ? 0 : aggregate.readableBytes();
+        return aggregated + buffer.readableBytes() < aggregateLimit;
+    }
+
+    /**
+     * Returns the buffer to write, including any data that was held back. Once something has been written there is
+     * no point in holding data back anymore.
+     */
+    private ByteBuf drainAggregate(ByteBuf buffer) {
+        aggregateLimit = 0;
+        if (aggregate == null) {
+            return buffer;
+        }
+        CompositeByteBuf result = aggregate;
+        aggregate = null;
+        if (buffer != null) {
+            result.addComponent(true, buffer);
+        }
+        return result;
+    }
+
+    private void releaseAggregate() {
+        if (aggregate != null) {
+            if (aggregate.refCnt() > 0) {
+                aggregate.release();
+            }
+            aggregate = null;
+        }
+    }
+
     public void writeBlocking(ByteBuf buffer, boolean finished) throws IOException {
         prepareWrite(buffer, finished);
         write(buffer, finished);
@@ -282,15 +345,17 @@ public void flush() throws IOException {
             throw new IOException("Stream is closed");
         }
         try {
-            if (pooledBuffer != null) {
-                writeBlocking(pooledBuffer, false);
+            if (pooledBuffer != null || aggregate != null) {
+                ByteBuf buffer = drainAggregate(pooledBuffer);
                 pooledBuffer = null;
+                writeBlocking(buffer, false);
             }
         } catch (Exception e) {
             if (pooledBuffer != null) {
                 pooledBuffer.release();
                 pooledBuffer = null;
             }
+            releaseAggregate();
             throw new IOException(e);
         }
     }
@@ -302,7 +367,13 @@ public void close() throws IOException {
         if (closed)
             return;
         try {
-            writeBlocking(pooledBuffer, true);
+            ByteBuf buffer = drainAggregate(pooledBuffer);
+            pooledBuffer = null;
+            writeBlocking(buffer, true);
+            RuntimeResource target = context.getTarget();
+            if (target != null) {
+                target.recordResponseSize((int) Math.min(written, Integer.MAX_VALUE));
+            }
         } catch (Exception e) {
             throw new IOException(e);
         } finally {
@@ -49,7 +49,9 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     protected final RoutingContext context;
     protected final HttpServerRequest request;
     protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    private final Context vertxContext;
+    // created lazily, as most requests complete without ever being resumed on the context
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -65,21 +67,10 @@ public VertxResteasyReactiveRequestContext(Deployment deployment,
         this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
-        Context current = Vertx.currentContext();
+        this.vertxContext = Vertx.currentContext();
         if (expect != null && expect.equalsIgnoreCase(CONTINUE)) {
             continueState = ContinueState.REQUIRED;
         }
-        this.contextExecutor = new Executor() {
-            @Override
-            public void execute(Runnable command) {
-                current.runOnContext(new Handler<Void>() {
-                    @Override
-                    public void handle(Void unused) {
-                        command.run();
-                    }
-                });
-            }
-        };
         request.pause();
     }
 
@@ -124,7 +115,23 @@ protected EventLoop getEventLoop() {
     }
 
     public Executor getContextExecutor() {
-        return contextExecutor;
+        Executor executor = contextExecutor;
+        if (executor == null) {
+            // racing threads create equivalent executors, so there is no need to synchronize
+            Context current = vertxContext;
+            executor = contextExecutor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    current.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void unused) {
+                            command.run();
+                        }
+                    });
+                }
+            };
+        }
+        return executor;
     }
 
     @Override
@@ -52,6 +52,7 @@
 import org.jboss.resteasy.reactive.server.processor.generation.injection.FieldInjectionFeature;
 import org.jboss.resteasy.reactive.server.processor.generation.multipart.MultipartFeature;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.CoalesceRequestsMethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.FeatureScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseHeaderMethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResponseStatusMethodScanner;
@@ -314,6 +315,7 @@ private void doDeployment() throws MalformedURLException, InterruptedException,
         scanStep.addMethodScanner(new AsyncReturnTypeScanner());
         scanStep.addMethodScanner(new ResponseStatusMethodScanner());
         scanStep.addMethodScanner(new ResponseHeaderMethodScanner());
+        scanStep.addMethodScanner(new CoalesceRequestsMethodScanner());
         scanStep.addFeatureScanner(new FeatureScanner() {
             @Override
             public FeatureScanResult integrate(IndexView application, ScannedApplication scannedApplication) {
@@ -69,6 +69,53 @@ public void testFiles() throws Exception {
                 .body(Matchers.equalTo(content.substring(20, 30)));
     }
 
+    @Test
+    public void testRanges() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        String contentLength = String.valueOf(content.length());
+        for (String resource : new String[] { "file", "path" }) {
+            String etag = RestAssured.get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(200)
+                    .header("Accept-Ranges", "bytes")
+                    .header(HttpHeaders.ETAG, Matchers.notNullValue())
+                    .header(HttpHeaders.LAST_MODIFIED, Matchers.notNullValue())
+                    .extract().header(HttpHeaders.ETAG);
+            RestAssured.given().header("Range", "bytes=0-9")
+                    .get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(206)
+                    .header("Content-Range", "bytes 0-9/" + contentLength)
+                    .header(HttpHeaders.CONTENT_LENGTH, "10")
+                    .body(Matchers.equalTo(content.substring(0, 10)));
+            RestAssured.given().header("Range", "bytes=-5")
+                    .get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(206)
+                    .body(Matchers.equalTo(content.substring(content.length() - 5)));
+            RestAssured.given().header("Range", "bytes=10000-")
+                    .get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(416)
+                    .header("Content-Range", "bytes */" + contentLength);
+            RestAssured.given().header("Range", "bytes=0-9").header("If-Range", "\"other\"")
+                    .get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(200)
+                    .body(Matchers.equalTo(content));
+            RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .get("/providers/file/" + resource)
+                    .then()
+                    .statusCode(304);
+        }
+        RestAssured.given().header("Range", "bytes=2-4")
+                .get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 2-4/10")
+                .body(Matchers.equalTo(content.substring(22, 25)));
+    }
+
     @Test
     public void testChecks() throws IOException {
         // creation-time checks
@@ -0,0 +1,207 @@
+package org.jboss.resteasy.reactive.server.vertx.test.response;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Checks that the output stream holds back the buffers of a response up to the size of the previous response of the
+ * same endpoint, in order to send it with a content length. The output buffer size is 8192 bytes.
+ */
+public class OutputAggregationTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest runner = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Payload.class, PayloadWriter.class, PayloadResource.class));
+
+    @Test
+    public void testSmallResponse() {
+        assertContentLength("/payload/small/100", 100);
+        assertContentLength("/payload/small/100", 100);
+    }
+
+    @Test
+    public void testJustBelowHint() {
+        // The first response of an endpoint has no hint, so it is streamed
+        assertChunked("/payload/below/40000", 40000);
+        assertContentLength("/payload/below/40000", 40000);
+        // The full buffers (5 * 8192 bytes) stay below the hint plus 12.5% (45000 bytes)
+        assertContentLength("/payload/below/44000", 44000);
+    }
+
+    @Test
+    public void testJustAboveHint() {
+        assertChunked("/payload/above/40000", 40000);
+        assertContentLength("/payload/above/40000", 40000);
+        // The full buffers (6 * 8192 bytes) exceed the hint plus 12.5% (45000 bytes)
+        assertChunked("/payload/above/50000", 50000);
+        // The hint grew with the last response
+        assertContentLength("/payload/above/50000", 50000);
+    }
+
+    @Test
+    public void testFlushWritesHeldBackData() {
+        assertChunked("/payload/flushed/40000", 40000);
+        assertContentLength("/payload/flushed/40000", 40000);
+        // The data held back before the flush is written before the data written after it
+        assertChunked("/payload/flushed/40000?flushAt=20000", 40000);
+        assertChunked("/payload/flushed/40000?flushAt=40000", 40000);
+    }
+
+    @Test
+    public void testCloseAfterFlush() {
+        assertChunked("/payload/closed/20000?flushAt=20000", 20000);
+        assertChunked("/payload/closed/20000?flushAt=20000", 20000);
+    }
+
+    @Test
+    public void testExplicitContentLength() {
+        assertContentLength("/payload/length/30000", 30000);
+        assertContentLength("/payload/length/30000", 30000);
+    }
+
+    private static void assertContentLength(String path, int size) {
+        ValidatableResponse response = get(path, size);
+        response.header(HttpHeaders.CONTENT_LENGTH, equalTo(String.valueOf(size)))
+                .header("transfer-encoding", nullValue());
+    }
+
+    private static void assertChunked(String path, int size) {
+        ValidatableResponse response = get(path, size);
+        response.header(HttpHeaders.CONTENT_LENGTH, nullValue())
+                .header("transfer-encoding", equalTo("chunked"));
+    }
+
+    private static ValidatableResponse get(String path, int size) {
+        ValidatableResponse response = given().get(path).then().statusCode(200);
+        assertArrayEquals(Payload.bytes(size), response.extract().asByteArray());
+        return response;
+    }
+
+    @Path("/payload")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public static class PayloadResource {
+
+        @GET
+        @Path("/small/{size}")
+        public Payload small(@PathParam("size") int size) {
+            return new Payload(size, 0);
+        }
+
+        @GET
+        @Path("/below/{size}")
+        public Payload below(@PathParam("size") int size) {
+            return new Payload(size, 0);
+        }
+
+        @GET
+        @Path("/above/{size}")
+        public Payload above(@PathParam("size") int size) {
+            return new Payload(size, 0);
+        }
+
+        @GET
+        @Path("/flushed/{size}")
+        public Payload flushed(@PathParam("size") int size, @QueryParam("flushAt") int flushAt) {
+            return new Payload(size, flushAt);
+        }
+
+        @GET
+        @Path("/closed/{size}")
+        public Payload closed(@PathParam("size") int size, @QueryParam("flushAt") int flushAt) {
+            return new Payload(size, flushAt);
+        }
+
+        @GET
+        @Path("/length/{size}")
+        public Response length(@PathParam("size") int size) {
+            return Response.ok(new Payload(size, 0)).header(HttpHeaders.CONTENT_LENGTH, size).build();
+        }
+    }
+
+    public static class Payload {
+
+        final int size;
+        final int flushAt;
+
+        Payload(int size, int flushAt) {
+            this.size = size;
+            this.flushAt = flushAt;
+        }
+
+        static byte[] bytes(int size) {
+            byte[] bytes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                bytes[i] = (byte) ('a' + i % 26);
+            }
+            return bytes;
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public static class PayloadWriter implements ServerMessageBodyWriter<Payload> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target,
+                MediaType mediaType) {
+            return Payload.class.equals(type);
+        }
+
+        @Override
+        public void writeResponse(Payload payload, Type genericType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            byte[] bytes = Payload.bytes(payload.size);
+            OutputStream stream = context.getOrCreateOutputStream();
+            // Write in slices smaller than the output buffer, like a serializer does
+            for (int offset = 0; offset < bytes.length; offset += 1000) {
+                int length = Math.min(1000, bytes.length - offset);
+                stream.write(bytes, offset, length);
+                if (offset + length == payload.flushAt) {
+                    stream.flush();
+                }
+            }
+            stream.close();
+        }
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return Payload.class.equals(type);
+        }
+
+        @Override
+        public void writeTo(Payload payload, Class<?> type, Type genericType, Annotation[] annotations,
+                MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            entityStream.write(Payload.bytes(payload.size));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.redis.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.smallrye.mutiny.Uni;
+
+@Path("/quarkus-redis-cache")
+@ApplicationScoped
+public class RedisCacheResource {
+
+    private static final String CACHE_NAME = "redis-cache";
+    private static final String KEY_PREFIX = "cache:" + CACHE_NAME + ":";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final KeyCommands<String> keys;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    public RedisCacheResource(RedisDataSource ds) {
+        keys = ds.key();
+    }
+
+    @GET
+    @Path("/sync/{key}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String getSync(@PathParam("key") String key) {
+        return key + "-" + invocations.incrementAndGet();
+    }
+
+    @GET
+    @Path("/reactive/{key}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public Uni<String> getReactive(@PathParam("key") String key) {
+        return Uni.createFrom().item(key + "-" + invocations.incrementAndGet());
+    }
+
+    @GET
+    @Path("/identity-key")
+    public String getWithIdentityKey() {
+        try {
+            return cache.get(new Object(), k -> "computed").await().indefinitely();
+        } catch (CacheException e) {
+            return "rejected";
+        }
+    }
+
+    @DELETE
+    @Path("/{key}")
+    @CacheInvalidate(cacheName = CACHE_NAME)
+    public void invalidate(@PathParam("key") String key) {
+    }
+
+    @GET
+    @Path("/{key}/stored")
+    public boolean isStored(@PathParam("key") String key) {
+        return keys.exists(KEY_PREFIX + key);
+    }
+
+    @DELETE
+    @Path("/{key}/local")
+    public Uni<Void> invalidateLocal(@PathParam("key") String key) {
+        return cache.as(RedisCacheImpl.class).getLocalCache().invalidate(KEY_PREFIX + key);
+    }
+}
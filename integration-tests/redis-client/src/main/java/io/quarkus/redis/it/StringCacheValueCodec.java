@@ -0,0 +1,18 @@
+package io.quarkus.redis.it;
+
+import java.nio.charset.StandardCharsets;
+
+import io.quarkus.cache.CacheValueCodec;
+
+public class StringCacheValueCodec implements CacheValueCodec {
+
+    @Override
+    public byte[] encode(Object value) {
+        return ((String) value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
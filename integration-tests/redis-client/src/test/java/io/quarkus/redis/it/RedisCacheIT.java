@@ -0,0 +1,12 @@
+package io.quarkus.redis.it;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+class RedisCacheIT extends RedisCacheTest {
+
+    @Override
+    String getKey(String k) {
+        return "native-" + k;
+    }
+}
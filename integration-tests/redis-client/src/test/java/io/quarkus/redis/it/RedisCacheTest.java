@@ -0,0 +1,77 @@
+package io.quarkus.redis.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+@QuarkusTest
+class RedisCacheTest {
+
+    static final String BASE_URL = "/quarkus-redis-cache";
+
+    String getKey(String k) {
+        return k;
+    }
+
+    @Test
+    public void sync() {
+        check("sync", getKey("sync-key"));
+    }
+
+    @Test
+    public void reactive() {
+        check("reactive", getKey("reactive-key"));
+    }
+
+    @Test
+    public void identityKey() {
+        // The string representation of the key would differ on each instance
+        assertEquals("rejected", get(BASE_URL + "/identity-key"));
+    }
+
+    private void check(String mode, String key) {
+        String path = String.format("%s/%s/%s", BASE_URL, mode, key);
+        String value = get(path);
+        assertEquals(value, get(path));
+        assertStored(key, true);
+
+        // The value is read from Redis when the local copy is missing
+        RestAssured.given()
+                .when()
+                .delete(String.format("%s/%s/local", BASE_URL, key))
+                .then()
+                .statusCode(204);
+        assertEquals(value, get(path));
+
+        RestAssured.given()
+                .when()
+                .delete(String.format("%s/%s", BASE_URL, key))
+                .then()
+                .statusCode(204);
+        assertStored(key, false);
+        assertNotEquals(value, get(path));
+    }
+
+    private String get(String path) {
+        return RestAssured.given()
+                .when()
+                .get(path)
+                .then()
+                .statusCode(200)
+                .extract().asString();
+    }
+
+    private void assertStored(String key, boolean stored) {
+        RestAssured.given()
+                .when()
+                .get(String.format("%s/%s/stored", BASE_URL, key))
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(String.valueOf(stored)));
+    }
+}